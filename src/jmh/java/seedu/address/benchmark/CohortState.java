@@ -0,0 +1,41 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * A generated cohort of students shared by the benchmarks of one trial, sized by {@link #cohortSize}.
+ */
+@State(Scope.Benchmark)
+public class CohortState {
+
+    /**
+     * Seed of the generated cohort, fixed so that every run measures the same data.
+     */
+    public static final long SEED = 2103;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int cohortSize;
+
+    public ReadOnlyAddressBook addressBook;
+    public List<Person> persons;
+
+    /**
+     * Generates the cohort.
+     */
+    @Setup(Level.Trial)
+    public void generateCohort() {
+        addressBook = SampleDataUtil.getSampleAddressBook(cohortSize, SEED);
+        persons = new ArrayList<>(addressBook.getPersonList());
+    }
+}
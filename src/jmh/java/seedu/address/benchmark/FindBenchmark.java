@@ -0,0 +1,75 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywords;
+
+/**
+ * Measures finding the students matching a {@link FindCommand} keyword, by testing every student and by looking the
+ * keyword up in the address book's trigram index first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FindBenchmark {
+
+    /**
+     * A rare email fragment, a common name fragment, and one that matches no student.
+     */
+    @Param({"e0000042", "tan", "zzz"})
+    public String keyword;
+
+    private AddressBook addressBook;
+    private PersonContainsKeywords predicate;
+
+    /**
+     * Indexes the cohort and builds the predicate for {@link #keyword}.
+     */
+    @Setup(Level.Trial)
+    public void setUp(CohortState cohort) {
+        addressBook = new AddressBook(cohort.addressBook);
+        predicate = new PersonContainsKeywords(List.of(keyword), List.of(keyword), List.of(keyword), List.of());
+    }
+
+    @Benchmark
+    public int scan() {
+        return count(predicate);
+    }
+
+    @Benchmark
+    public int indexed() {
+        return count(addressBook.narrow(predicate));
+    }
+
+    private int count(Predicate<Person> filter) {
+        // tests every student as the displayed list does when its filter is replaced
+        int count = 0;
+        for (Person person : addressBook.getPersonList()) {
+            if (filter.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
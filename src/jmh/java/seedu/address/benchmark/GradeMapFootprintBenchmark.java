@@ -0,0 +1,106 @@
+package seedu.address.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Assignments;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the heap retained by the grades of every student in a cohort, reported as the {@code bytesPerStudent}
+ * secondary result. {@link Representation#LINKED_HASH_MAP} lays the grades out as {@link GradeMap} did when it
+ * extended {@code LinkedHashMap<Assignments, Grade>}, for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class GradeMapFootprintBenchmark {
+
+    /**
+     * A way of holding one student's grades.
+     */
+    public enum Representation {
+        LINKED_HASH_MAP,
+        GRADE_MAP
+    }
+
+    /**
+     * The heap retained by the grades built in one invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerStudent;
+    }
+
+    @Param({"10000"})
+    public int studentCount;
+
+    @Param({"LINKED_HASH_MAP", "GRADE_MAP"})
+    public Representation representation;
+
+    private List<Person> persons;
+
+    /**
+     * Generates the cohort whose grades are copied.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        persons = SampleDataUtil.getSampleAddressBook(studentCount, CohortState.SEED).getPersonList();
+    }
+
+    /**
+     * Copies the grades of every student into the chosen representation and records the heap they retain.
+     */
+    @Benchmark
+    public Object[] copyGrades(Footprint footprint) {
+        long usedBefore = usedHeapAfterGc();
+        Object[] grades = new Object[persons.size()];
+        for (int i = 0; i < grades.length; i++) {
+            GradeMap gradeMap = persons.get(i).getGradeMap();
+            grades[i] = representation == Representation.GRADE_MAP
+                    ? new GradeMap(toLinkedHashMap(gradeMap))
+                    : toLinkedHashMap(gradeMap);
+        }
+        footprint.bytesPerStudent = (usedHeapAfterGc() - usedBefore) / grades.length;
+        return grades;
+    }
+
+    private static LinkedHashMap<Assignments, Grade> toLinkedHashMap(GradeMap gradeMap) {
+        LinkedHashMap<Assignments, Grade> map = new LinkedHashMap<>();
+        for (Assignments assignment : Assignments.getAllAssignments()) {
+            // a grade of its own for each entry, as parsed from the data file
+            map.put(assignment, new Grade(gradeMap.get(assignment).value));
+        }
+        return map;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEHANDLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing of user input, which runs on every command regardless of the cohort size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/Alex Yeoh p/87438807 e/alexyeoh@example.com u/@alex tg/TG01"
+            + " t/Needs Help";
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    @Benchmark
+    public String fuzzyMatchExact() {
+        return addressBookParser.fuzzyMatch("find");
+    }
+
+    @Benchmark
+    public String fuzzyMatchTypo() {
+        return addressBookParser.fuzzyMatch("fnd");
+    }
+
+    @Benchmark
+    public String fuzzyMatchUnknown() {
+        return addressBookParser.fuzzyMatch("unknowncommand");
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArguments() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TELEHANDLE,
+                PREFIX_TUTORIAL_GROUP, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public Command parseAddCommand() throws ParseException {
+        return addressBookParser.parseCommand("add" + ADD_ARGUMENTS);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * Measures sorting the cohort in the orders used by {@link SortCommand}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortBenchmark {
+
+    @Param({"NAME", "TUTORIAL", "GRADE", "ATTENDANCE"})
+    public SortCommand.Field field;
+
+    private PersonOrder order;
+
+    /**
+     * Builds the order for {@link #field}.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        order = new SortCommand(field, SortCommand.Order.ASC, false).getOrder();
+    }
+
+    @Benchmark
+    public int[] sort(CohortState cohort) {
+        // the cohort is left unsorted, so that every invocation starts from the same order
+        return order.sort(cohort.persons);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures saving and loading the cohort in each data file format. The size of the file saved is reported as the
+ * {@code fileBytes} secondary result of {@link #save}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StorageBenchmark {
+
+    /**
+     * The size of the data file written by the last save.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileSize {
+        public long fileBytes;
+    }
+
+    @Param({"JSON", "BINARY"})
+    public DataFileFormat format;
+
+    private Path folder;
+    private AddressBookStorage storage;
+
+    /**
+     * Creates a data file holding the cohort.
+     */
+    @Setup(Level.Trial)
+    public void setUp(CohortState cohort) throws IOException {
+        folder = Files.createTempDirectory("addressbook-benchmark");
+        Path filePath = folder.resolve("addressbook.json");
+        storage = format == DataFileFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(cohort.addressBook);
+    }
+
+    /**
+     * Deletes the data file and its backups.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public AddressBookStorage save(CohortState cohort, FileSize fileSize) throws IOException {
+        storage.saveAddressBook(cohort.addressBook);
+        fileSize.fileBytes = Files.size(storage.getAddressBookFilePath());
+        return storage;
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+}
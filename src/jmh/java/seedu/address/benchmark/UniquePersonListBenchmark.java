@@ -0,0 +1,121 @@
+package seedu.address.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures the operations of {@link UniquePersonList} that commands run on every execution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniquePersonListBenchmark {
+
+    private static final int TUTORIAL_SIZE = 200;
+
+    private UniquePersonList uniquePersonList;
+    private Person existingPerson;
+    private Person editedPerson;
+    private Person newPerson;
+    private FilteredList<Person> filteredPersons;
+    private Map<Person, Person> tutorialEdits;
+    private Map<Person, Person> tutorialReverts;
+
+    /**
+     * Fills the list with the cohort.
+     */
+    @Setup(Level.Trial)
+    public void setUp(CohortState cohort) {
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(cohort.persons);
+        existingPerson = cohort.persons.get(cohort.persons.size() / 2);
+        editedPerson = copyOf(existingPerson, new Phone("99999999"), existingPerson.getEmail());
+        newPerson = copyOf(existingPerson, existingPerson.getPhone(), new Email("not.in.cohort@example.com"));
+
+        // a filtered view re-evaluates on every change, as the person list panel does
+        filteredPersons = new FilteredList<>(uniquePersonList.asUnmodifiableObservableList(), person -> true);
+        tutorialEdits = new LinkedHashMap<>();
+        tutorialReverts = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(TUTORIAL_SIZE, cohort.persons.size()); i++) {
+            Person person = cohort.persons.get(i);
+            Person edited = copyOf(person, new Phone("99999999"), person.getEmail());
+            tutorialEdits.put(person, edited);
+            tutorialReverts.put(edited, person);
+        }
+    }
+
+    /**
+     * Edits the first {@value #TUTORIAL_SIZE} persons one at a time, as attendance was marked before batch edits.
+     */
+    @Benchmark
+    public UniquePersonList editTutorialOneByOne() {
+        tutorialEdits.forEach(uniquePersonList::setPerson);
+        tutorialReverts.forEach(uniquePersonList::setPerson);
+        return uniquePersonList;
+    }
+
+    @Benchmark
+    public UniquePersonList editTutorialTogether() {
+        uniquePersonList.setPersons(tutorialEdits);
+        uniquePersonList.setPersons(tutorialReverts);
+        return uniquePersonList;
+    }
+
+    private static Person copyOf(Person person, Phone phone, Email email) {
+        return new Person(person.getId(), person.getName(), phone, email, person.getTeleHandle(),
+                person.getTutorialGroup(), person.getGradeMap(), person.getAttendMap(), person.getTags());
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons(CohortState cohort) {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(cohort.persons);
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return uniquePersonList.contains(existingPerson);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return uniquePersonList.contains(newPerson);
+    }
+
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        uniquePersonList.add(newPerson);
+        uniquePersonList.remove(newPerson);
+        return uniquePersonList;
+    }
+
+    @Benchmark
+    public UniquePersonList editThenRevert() {
+        uniquePersonList.setPerson(existingPerson, editedPerson);
+        uniquePersonList.setPerson(editedPerson, existingPerson);
+        return uniquePersonList;
+    }
+}
@@ -10,6 +10,7 @@ import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.SampleCohortGenerator;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -18,6 +19,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Integer generatedCohortSize;
+    private long generatedCohortSeed = SampleCohortGenerator.DEFAULT_SEED;
 
     /**
      * Parses the application command-line parameters.
@@ -33,6 +36,29 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        // undocumented parameters for trying out the application with a large generated cohort
+        String cohortSizeParameter = namedParameters.get("generate-cohort");
+        if (cohortSizeParameter != null) {
+            try {
+                int cohortSize = Integer.parseInt(cohortSizeParameter);
+                if (cohortSize < 0) {
+                    throw new NumberFormatException();
+                }
+                appParameters.setGeneratedCohortSize(cohortSize);
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid cohort size " + cohortSizeParameter + ". Not generating a cohort.");
+            }
+        }
+
+        String cohortSeedParameter = namedParameters.get("cohort-seed");
+        if (cohortSeedParameter != null) {
+            try {
+                appParameters.setGeneratedCohortSeed(Long.parseLong(cohortSeedParameter));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid cohort seed " + cohortSeedParameter + ". Using default cohort seed.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -44,6 +70,25 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the size of the cohort to generate in place of the stored data, or null if none was requested.
+     */
+    public Integer getGeneratedCohortSize() {
+        return generatedCohortSize;
+    }
+
+    public void setGeneratedCohortSize(Integer generatedCohortSize) {
+        this.generatedCohortSize = generatedCohortSize;
+    }
+
+    public long getGeneratedCohortSeed() {
+        return generatedCohortSeed;
+    }
+
+    public void setGeneratedCohortSeed(long generatedCohortSeed) {
+        this.generatedCohortSeed = generatedCohortSeed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +101,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(generatedCohortSize, otherAppParameters.generatedCohortSize)
+                && generatedCohortSeed == otherAppParameters.generatedCohortSeed;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, generatedCohortSize, generatedCohortSeed);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
             .add("configPath", configPath)
+            .add("generatedCohortSize", generatedCohortSize)
+            .add("generatedCohortSeed", generatedCohortSeed)
             .toString();
     }
 }
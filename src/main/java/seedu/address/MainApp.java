@@ -21,9 +21,12 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleCohortGenerator;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AsyncAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -43,6 +46,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AsyncAddressBookSaver addressBookSaver;
     protected Model model;
     protected Config config;
 
@@ -57,16 +61,51 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs, appParameters);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = appParameters.getGeneratedCohortSize() != null
+                ? initGeneratedModelManager(appParameters, userPrefs)
+                : initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        addressBookSaver = new AsyncAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, addressBookSaver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}. <br>
+     * A generated cohort is saved next to the data file rather than over it.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs, AppParameters appParameters) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (appParameters.getGeneratedCohortSize() != null) {
+            addressBookFilePath = addressBookFilePath.resolveSibling("generated-" + addressBookFilePath.getFileName());
+        }
+
+        logger.info("Using data file format : " + userPrefs.getAddressBookFileFormat());
+        switch (userPrefs.getAddressBookFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case JSON:
+        default:
+            return new JournalAddressBookStorage(addressBookFilePath);
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with a cohort generated as requested in {@code appParameters} and
+     * {@code userPrefs}.
+     */
+    private Model initGeneratedModelManager(AppParameters appParameters, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Generating a cohort of " + appParameters.getGeneratedCohortSize() + " students with seed "
+            + appParameters.getGeneratedCohortSeed() + ", which will be saved to " + storage.getAddressBookFilePath());
+        ReadOnlyAddressBook initialData = new SampleCohortGenerator(appParameters.getGeneratedCohortSeed())
+            .generateAddressBook(appParameters.getGeneratedCohortSize());
+        return new ModelManager(initialData, userPrefs);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +216,9 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (addressBookSaver != null) {
+            addressBookSaver.shutdown();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
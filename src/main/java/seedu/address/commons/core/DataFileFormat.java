@@ -0,0 +1,18 @@
+package seedu.address.commons.core;
+
+/**
+ * Formats in which the address book data file can be saved.
+ * Files in either format can be read regardless of the format chosen for saving.
+ */
+public enum DataFileFormat {
+    /**
+     * Human-readable JSON, with small changes appended to a journal next to the file.
+     */
+    JSON,
+
+    /**
+     * A compact binary encoding that is faster to load and save, kept in a file next to the data file with the
+     * extension {@code .bin} in place of {@code .json}.
+     */
+    BINARY
+}
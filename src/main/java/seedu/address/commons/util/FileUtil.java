@@ -1,10 +1,25 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +27,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. Implementations should not close {@code out}.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,9 +104,167 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file through a buffered stream.
+     * Will create the file if it does not exist yet.
+     * <p>
+     * The content is written to a temporary file in the same directory, forced to disk and then moved over
+     * {@code file}, so {@code file} holds either its old or its new content even if the write is interrupted.
+     * An existing {@code file} keeps its permissions.
+     *
+     * @return the CRC-32 checksum of the content written, the same as {@link #getChecksum(Path)} returns for
+     *     {@code file} afterwards, but computed as the content is written.
+     */
+    public static long writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = createTempFileBeside(absoluteFile);
+        CRC32 checksum = new CRC32();
+        try {
+            if (isFileExists(absoluteFile)) {
+                copyPermissions(absoluteFile, tempFile);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel)), checksum);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveReplacing(tempFile, absoluteFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(absoluteFile.getParent());
+        return checksum.getValue();
+    }
+
+    /**
+     * Creates an empty file with a new name in the directory of {@code file}.
+     * Unlike {@link Files#createTempFile}, which makes the file readable by its owner only, the file is given the
+     * default permissions of a new file.
+     */
+    private static Path createTempFileBeside(Path file) throws IOException {
+        while (true) {
+            Path tempFile = file.resolveSibling(file.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // taken by another write; try another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions of {@code source}, on file systems with POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView != null) {
+            Files.setPosixFilePermissions(target, sourceView.readAttributes().permissions());
+        }
+    }
+
+    /**
+     * Writes given string to a file like {@link #writeToFile(Path, String)}, first keeping the current content of
+     * the file as the newest of {@code backupGenerations} rotating backups.
+     *
+     * @see #getBackupFilePath(Path, int)
+     */
+    public static void writeToFile(Path file, String content, int backupGenerations) throws IOException {
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)), backupGenerations);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file like {@link #writeToFile(Path, ContentWriter)},
+     * first keeping the current content of the file as the newest of {@code backupGenerations} rotating backups.
+     *
+     * @return the CRC-32 checksum of the content written.
+     * @see #getBackupFilePath(Path, int)
+     */
+    public static long writeToFile(Path file, ContentWriter contentWriter, int backupGenerations)
+            throws IOException {
+        if (backupGenerations > 0 && isFileExists(file)) {
+            Files.deleteIfExists(getBackupFilePath(file, backupGenerations));
+            for (int generation = backupGenerations - 1; generation >= 1; generation--) {
+                Path backupFile = getBackupFilePath(file, generation);
+                if (Files.exists(backupFile)) {
+                    moveReplacing(backupFile, getBackupFilePath(file, generation + 1));
+                }
+            }
+            Files.copy(file, getBackupFilePath(file, 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return writeToFile(file, contentWriter);
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} kept by {@link #writeToFile(Path, String, int)}, where
+     * generation 1 is the newest.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} atomically where the file system allows it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk so that a completed rename survives a crash.
+     * Not every platform allows a directory to be opened, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // best effort only
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file and forces it to disk.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        boolean isNewFile = !Files.exists(file);
+        ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        if (isNewFile) {
+            forceDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the content of {@code file}.
+     */
+    public static long getChecksum(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return checksum.getValue();
     }
 
 }
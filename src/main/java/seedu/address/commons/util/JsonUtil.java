@@ -2,19 +2,27 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,12 +30,26 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
  */
 public class JsonUtil {
 
+    /**
+     * Receives the elements of a JSON array as they are read.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        /**
+         * Accepts one element of the array.
+         *
+         * @throws IllegalValueException if the element is not acceptable; reading stops.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
@@ -91,6 +113,102 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object into the specified file, keeping the previous content of the file as the newest of
+     * {@code backupGenerations} rotating backups.
+     *
+     * @see FileUtil#writeToFile(Path, String, int)
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int backupGenerations) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        FileUtil.writeToFile(filePath, toJsonString(jsonFile), backupGenerations);
+    }
+
+
+    /**
+     * Reads the JSON object in the given file as a stream, passing each element of the array in its top-level field
+     * {@code arrayFieldName} to {@code elementConsumer} as soon as that element is parsed. Other top-level fields
+     * are skipped, and a missing {@code arrayFieldName} field is treated as an empty array.
+     * Only one element is held in memory at a time.
+     *
+     * @param filePath cannot be null.
+     * @return false if the file is not found.
+     * @throws DataLoadingException  if the file could not be read or does not have the expected structure.
+     * @throws IllegalValueException if {@code elementConsumer} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementConsumer<T> elementConsumer) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!arrayFieldName.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + arrayFieldName);
+                }
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of file");
+                    }
+                    elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Saves {@code elements} as the array in the single field {@code arrayFieldName} of a JSON object, converting
+     * each element with {@code toJsonElement} only as it is written. Nothing is built in memory beyond the current
+     * element. The previous content of the file is kept as the newest of {@code backupGenerations} rotating backups.
+     *
+     * @param filePath cannot be null.
+     * @return the CRC-32 checksum of the content written.
+     * @throws IOException if there was an error during writing to the file.
+     * @see FileUtil#writeToFile(Path, FileUtil.ContentWriter, int)
+     */
+    public static <T, R> long saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements,
+            Function<? super T, R> toJsonElement, int backupGenerations) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // the stream belongs to FileUtil, which still needs to force it to disk
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayFieldName);
+                for (T element : elements) {
+                    elementWriter.writeValue(generator, toJsonElement.apply(element));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, backupGenerations);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -113,6 +231,18 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * suitable for line-delimited files.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -50,4 +51,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that receives error messages for saves that fail after {@link #execute(String)} returned.
+     * The handler may be called from a background thread.
+     */
+    void setStorageErrorHandler(Consumer<String> storageErrorHandler);
 }
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +17,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,14 +34,33 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AsyncAddressBookSaver asyncSaver;
+
+    // Modification count of the address book as of the last successful save, or -1 if it has not been saved yet.
+    // Reset from the saver thread when a background save fails, so that the next command saves again.
+    private volatile long lastSavedModificationCount = -1;
+    private volatile Consumer<String> storageErrorHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved synchronously after each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands address book saves to {@code asyncSaver} instead of writing them
+     * before returning from {@link #execute(String)}. Synchronous saving is used if {@code asyncSaver} is null.
+     */
+    public LogicManager(Model model, Storage storage, AsyncAddressBookSaver asyncSaver) {
         this.model = model;
         this.storage = storage;
+        this.asyncSaver = asyncSaver;
         addressBookParser = new AddressBookParser();
+        if (asyncSaver != null) {
+            asyncSaver.setFailureHandler(this::handleAsyncSaveFailure);
+        }
     }
 
     @Override
@@ -50,17 +71,53 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (command.isReadOnly()) {
+            return commandResult;
+        }
+        model.commitAddressBook();
+
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == lastSavedModificationCount) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
+
+        if (asyncSaver != null) {
+            lastSavedModificationCount = modificationCount;
+            asyncSaver.requestSave(model.getAddressBook());
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            lastSavedModificationCount = modificationCount;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setStorageErrorHandler(Consumer<String> storageErrorHandler) {
+        this.storageErrorHandler = storageErrorHandler;
+    }
+
+    /**
+     * Called on the saver thread when a background save fails.
+     */
+    private void handleAsyncSaveFailure(IOException ioe) {
+        lastSavedModificationCount = -1;
+        storageErrorHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
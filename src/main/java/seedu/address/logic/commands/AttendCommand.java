@@ -5,7 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -78,20 +80,17 @@ public class AttendCommand extends Command {
     private Person createAttendancePerson(Person personToEdit) {
         assert personToEdit != null;
 
+        long id = personToEdit.getId();
         Name name = personToEdit.getName();
         Phone phone = personToEdit.getPhone();
         Email email = personToEdit.getEmail();
         TeleHandle teleHandle = personToEdit.getTeleHandle();
         TutorialGroup tutorialGroup = personToEdit.getTutorialGroup();
         GradeMap gradeMap = personToEdit.getGradeMap();
-        AttendMap attendMap = personToEdit.getAttendMap();
-        // Removed clone behaviour here since logic would've applied
-        // to other fields as well. Either way, normal behaviour would not
-        // cause sharing of objects as attributes, and is thus fine to take directly.
-        attendMap.markPresent(tutClass);
+        AttendMap attendMap = personToEdit.getAttendMap().withPresent(tutClass);
         Set<Tag> tags = personToEdit.getTags();
 
-        return new Person(name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+        return new Person(id, name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
     }
 
     @Override
@@ -106,20 +105,23 @@ public class AttendCommand extends Command {
         }
 
         StringBuilder successMessage = new StringBuilder();
+        // all students are marked together, so that the list changes once however many are marked
+        Map<Person, Person> attendancePersons = new LinkedHashMap<>();
 
         for (Index index : indices) {
             Person personToMarkAttend = lastShownList.get(index.getZeroBased());
-            Person attendancePerson = createAttendancePerson(personToMarkAttend);
+            Person attendancePerson = attendancePersons.computeIfAbsent(personToMarkAttend,
+                    this::createAttendancePerson);
 
             if (!personToMarkAttend.isSamePerson(attendancePerson) && model.hasPerson(attendancePerson)) {
                 throw new CommandException(MESSAGE_DUPLICATE_PERSON);
             }
 
-            model.setPerson(personToMarkAttend, attendancePerson);
             successMessage.append(Messages.format(attendancePerson).replace("; ", System.lineSeparator()));
-
         }
 
+        model.setPersons(attendancePersons);
+
         if (indices.size() > 1) {
             return new CommandResult(String.format(MESSAGE_EDIT_PERSONS_SUCCESS, tutClass, successMessage),
                     false, false, true);
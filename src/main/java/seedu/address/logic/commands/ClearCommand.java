@@ -13,7 +13,7 @@ public class ClearCommand extends Command {
 
     public static final String COMMAND_WORD = "clear";
     public static final String FUZZY_COMMAND_WORD = "clearr";
-    public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
+    public static final String MESSAGE_SUCCESS = "Address book has been cleared! Use undo to restore it.";
 
 
     /**
@@ -38,7 +38,7 @@ public class ClearCommand extends Command {
         requireNonNull(model);
         boolean isConfirmed = confirmationProvider.confirm(
                 "Confirm Clear",
-                "All data will be lost. Are you sure you want to proceed?"
+                "All data will be cleared. You can restore it with the undo command. Are you sure you want to proceed?"
         );
         if (isConfirmed) {
             model.setAddressBook(new AddressBook());
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never modifies the address book, so there is nothing to save after it runs.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
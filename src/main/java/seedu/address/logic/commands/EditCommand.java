@@ -89,7 +89,8 @@ public class EditCommand extends Command {
         AttendMap updatedAttendMap = personToEdit.getAttendMap();
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        return new Person(updatedName,
+        return new Person(personToEdit.getId(),
+                updatedName,
                 updatedPhone,
                 updatedEmail,
                 updatedTeleHandle,
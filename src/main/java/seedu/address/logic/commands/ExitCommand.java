@@ -17,4 +17,9 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
 }
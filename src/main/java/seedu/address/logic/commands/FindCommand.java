@@ -2,8 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEHANDLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -21,19 +23,24 @@ public class FindCommand extends Command {
     public static final String FUZZY_COMMAND_WORD = "findd";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds students by name, email, telegram handle, "
-            + "or tutorial group (tag).\n"
+            + "tutorial group (tag), grade range or attendance.\n"
             + "Parameters:\n  "
             + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]...    Name keywords\n  "
             + PREFIX_EMAIL + "KEYWORD [MORE_KEYWORDS]...    Email keywords\n  "
             + PREFIX_TELEHANDLE + "KEYWORD [MORE_KEYWORDS]...    Telegram handle keywords\n  "
-            + PREFIX_TUTORIAL_GROUP + "TUTORIAL_GROUP [MORE_KEYWORDS]...   Tutorial group tag, e.g. tg/TG01\n"
+            + PREFIX_TUTORIAL_GROUP + "TUTORIAL_GROUP [MORE_KEYWORDS]...   Tutorial group tag, e.g. tg/TG01\n  "
+            + PREFIX_GRADE + "ASSIGNMENT<GRADE, <=, >, >= or ASSIGNMENT:MIN-MAX    Grade range, e.g. g/Q3<50\n  "
+            + PREFIX_TUTORIALCLASS + "QUERY    Tutorial classes attended, combined with and, or, not, e.g. c/not t3\n"
             + "Note:\n  "
             + "At least 1 prefix + keyword must be provided.\n  "
-            + "Students matching at least one keyword will be returned (i.e. OR search).\n"
+            + "Students matching at least one keyword, grade range or attendance query will be returned "
+            + "(i.e. OR search).\n"
             + "Examples:\n  "
             + COMMAND_WORD + " " + PREFIX_NAME + "alice bob\n  "
             + COMMAND_WORD + " " + PREFIX_EMAIL + "gmail.com\n  "
-            + COMMAND_WORD + " " + PREFIX_TELEHANDLE + "@alice " + PREFIX_TUTORIAL_GROUP + "TG01";
+            + COMMAND_WORD + " " + PREFIX_TELEHANDLE + "@alice " + PREFIX_TUTORIAL_GROUP + "TG01\n  "
+            + COMMAND_WORD + " " + PREFIX_GRADE + "Finals:40-60 " + PREFIX_GRADE + "overall<50\n  "
+            + COMMAND_WORD + " " + PREFIX_TUTORIALCLASS + "not t4 and not t5";
 
     private final PersonContainsKeywords predicate;
     private final boolean isVerbose;
@@ -49,12 +56,17 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.findPersons(predicate);
         return new CommandResult(
             String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 false, false, isVerbose);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
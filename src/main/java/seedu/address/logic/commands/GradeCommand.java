@@ -73,17 +73,17 @@ public class GradeCommand extends Command {
     private Person createGradedPerson(Person personToEdit) {
         assert personToEdit != null;
 
+        long id = personToEdit.getId();
         Name name = personToEdit.getName();
         Phone phone = personToEdit.getPhone();
         Email email = personToEdit.getEmail();
         TeleHandle teleHandle = personToEdit.getTeleHandle();
         TutorialGroup tutorialGroup = personToEdit.getTutorialGroup();
-        GradeMap gradeMap = personToEdit.getGradeMap();
-        gradeMap.put(assignment, grade);
+        GradeMap gradeMap = personToEdit.getGradeMap().with(assignment, grade);
         AttendMap attendMap = personToEdit.getAttendMap();
         Set<Tag> tags = personToEdit.getTags();
 
-        return new Person(name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+        return new Person(id, name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
     }
 
     @Override
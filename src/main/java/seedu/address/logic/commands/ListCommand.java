@@ -1,31 +1,64 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.List;
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
+import seedu.address.model.person.PersonContainsKeywords;
+import seedu.address.model.person.TutorialGroup;
 
 /**
- * Lists all studentss in the address book to the user.
+ * Lists all students in the address book to the user, or only those in one tutorial group.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
     public static final String FUZZY_COMMAND_WORD = "listt";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all students, "
+            + "or only those in a tutorial group.\n"
+            + "Parameters: [" + PREFIX_TUTORIAL_GROUP + "TUTORIAL_GROUP]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TUTORIAL_GROUP + "TG03";
     public static final String MESSAGE_SUCCESS = "Listed all students.";
+    public static final String MESSAGE_SUCCESS_TUTORIAL_GROUP = "Listed all students in %1$s.";
 
+    // null when every student is listed
+    private final TutorialGroup tutorialGroup;
     private final boolean isVerbose;
 
     public ListCommand(boolean isVerbose) {
+        this(null, isVerbose);
+    }
+
+    /**
+     * Creates a ListCommand that lists the students in {@code tutorialGroup}, or every student if it is null.
+     */
+    public ListCommand(TutorialGroup tutorialGroup, boolean isVerbose) {
+        this.tutorialGroup = tutorialGroup;
         this.isVerbose = isVerbose;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS, false, false, isVerbose);
+        if (tutorialGroup == null) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS, false, false, isVerbose);
+        }
+
+        // the members are read from the tutorial group partition of the address book
+        model.findPersons(new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(tutorialGroup.value)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS_TUTORIAL_GROUP, tutorialGroup), false, false,
+                isVerbose);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
@@ -40,12 +73,14 @@ public class ListCommand extends Command {
         }
 
         ListCommand otherListCommand = (ListCommand) other;
-        return isVerbose == otherListCommand.isVerbose;
+        return Objects.equals(tutorialGroup, otherListCommand.tutorialGroup)
+                && isVerbose == otherListCommand.isVerbose;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
+                .add("tutorialGroup", tutorialGroup)
                 .add("isVerbose", isVerbose)
                 .toString();
     }
@@ -2,26 +2,33 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
 
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 
 /**
- * Sorts the students in the address book by a specified field.
+ * Sorts the students in the address book by one or more fields.
+ * Students that are equal in every field keep the order in which they were added to the address book.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
     public static final String FUZZY_COMMAND_WORD = "sortt";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sort students in the address book by a field\n"
-            + "Parameters: [FIELD] [ORDER]\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sort students in the address book by fields\n"
+            + "Parameters: [FIELD [ORDER]]...\n"
             + "Fields: name | tutorial | grade | attendance\n"
             + "Order (optional): asc | desc (default is asc)\n"
+            + "Later fields break ties between students that are equal in earlier ones.\n"
             + "Example: " + COMMAND_WORD + " grade desc\n"
+            + "         " + COMMAND_WORD + " tutorial asc grade desc\n"
             + "         " + COMMAND_WORD + " name";
-    private static final String MESSAGE_SUCCESS = "Students sorted by %s in %s order.";
+    private static final String MESSAGE_SUCCESS = "Students sorted by %s.";
+    private static final String MESSAGE_CRITERION = "%s in %s order";
+    private static final String CRITERION_SEPARATOR = ", then ";
 
     /**
      * The field to sort by: Name, Tutorial, Grade, or Attendance
@@ -41,58 +48,91 @@ public class SortCommand extends Command {
         }
     }
 
-    private final Field field;
-    private final Order order;
+    /**
+     * A field to sort by and the order to sort it in.
+     */
+    public record Criterion(Field field, Order order) {
+        /**
+         * Creates a criterion that sorts by {@code field} in {@code order}.
+         */
+        public Criterion {
+            requireNonNull(field);
+            requireNonNull(order);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_CRITERION, field.toString().toLowerCase(Locale.ROOT),
+                    order.toString().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final List<Criterion> criteria;
     private final boolean isVerbose;
 
     /**
      * Creates a SortCommand to sort the students by the specified field and order.
      */
     public SortCommand(Field field, Order order, boolean isVerbose) {
-        this.field = requireNonNull(field);
-        this.order = requireNonNull(order);
-        this.isVerbose = isVerbose;
+        this(List.of(new Criterion(field, order)), isVerbose);
     }
 
+    /**
+     * Creates a SortCommand to sort the students by each of {@code criteria} in turn.
+     */
+    public SortCommand(List<Criterion> criteria, boolean isVerbose) {
+        requireNonNull(criteria);
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("At least one sort criterion is required");
+        }
+        this.criteria = List.copyOf(criteria);
+        this.isVerbose = isVerbose;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Comparator<Person> comparator = buildComparator(field);
-        assert comparator != null : "Comparator should not be null";
-        model.sortPersonList(comparator);
-        return new CommandResult(String.format(MESSAGE_SUCCESS,
-                field.toString().toLowerCase(Locale.ROOT),
-                order.toString().toLowerCase(Locale.ROOT)),
-                false, false, isVerbose);
+        PersonOrder order = getOrder();
+        assert order != null : "Order should not be null";
+        model.sortPersonList(order);
+        String description = criteria.stream()
+                .map(Criterion::toString)
+                .collect(Collectors.joining(CRITERION_SEPARATOR));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, description), false, false, isVerbose);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        // only the displayed order changes
+        return true;
+    }
+
+    /**
+     * Returns the order this command sorts students in.
+     * Students equal in every criterion are ordered by {@link Person#getId() id}, which follows the order they were
+     * added in, so that ties are broken the same way however the displayed list was built.
+     */
+    public PersonOrder getOrder() {
+        Criterion first = criteria.get(0);
+        PersonOrder order = PersonOrder.by(getKey(first.field()), first.order() == Order.DESC);
+        for (Criterion criterion : criteria.subList(1, criteria.size())) {
+            order = order.thenBy(getKey(criterion.field()), criterion.order() == Order.DESC);
+        }
+        return order;
     }
 
-    // Builds a comparator based on the specified field and order
-    private Comparator<Person> buildComparator(Field compareField) {
-        Comparator<Person> comparator;
-        switch (compareField) {
-        case NAME:
-            comparator = Comparator.comparing(p -> p.getName().toString().toLowerCase(Locale.ROOT));
-            break;
+    // Returns the key the persons are ordered by for the specified field
+    private static PersonOrder.Key getKey(Field field) {
+        switch (field) {
         case TUTORIAL:
-            comparator = Comparator.comparing(p -> p.getTutorialGroup().getTutorialGroupNumber());
-            break;
+            return PersonOrder.Key.TUTORIAL_GROUP;
         case GRADE:
-            comparator = Comparator.comparing(p -> p.getOverallGrade().valueFloat);
-            break;
+            return PersonOrder.Key.OVERALL_GRADE;
         case ATTENDANCE:
-            comparator = Comparator.comparing(p -> p.getAttendMap().getAttendanceRate());
-            break;
+            return PersonOrder.Key.ATTENDANCE_RATE;
         default:
-            // default to sorting by name if field is not specified
-            // (if an unmatched field is given, parser should have caught it)
-            return Comparator.comparing(p -> p.getName().toString().toLowerCase(Locale.ROOT));
-        }
-
-        if (order == Order.DESC) {
-            comparator = comparator.reversed();
+            return PersonOrder.Key.NAME;
         }
-        return comparator;
     }
 
     @Override
@@ -104,7 +144,7 @@ public class SortCommand extends Command {
             return false;
         }
         SortCommand otherCommand = (SortCommand) other;
-        return field == otherCommand.field && order == otherCommand.order && isVerbose == otherCommand.isVerbose;
+        return criteria.equals(otherCommand.criteria) && isVerbose == otherCommand.isVerbose;
     }
 
 }
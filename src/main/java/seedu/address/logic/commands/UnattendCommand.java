@@ -65,20 +65,17 @@ public class UnattendCommand extends Command {
     private Person createAttendancePerson(Person personToEdit) {
         assert personToEdit != null;
 
+        long id = personToEdit.getId();
         Name name = personToEdit.getName();
         Phone phone = personToEdit.getPhone();
         Email email = personToEdit.getEmail();
         TeleHandle teleHandle = personToEdit.getTeleHandle();
         TutorialGroup tutorialGroup = personToEdit.getTutorialGroup();
         GradeMap gradeMap = personToEdit.getGradeMap();
-        AttendMap attendMap = personToEdit.getAttendMap();
-        // Removed clone behaviour here since logic would've applied
-        // to other fields as well. Either way, normal behaviour would not
-        // cause sharing of objects as attributes, and is thus fine to take directly.
-        attendMap.markAbsent(tutClass);
+        AttendMap attendMap = personToEdit.getAttendMap().withAbsent(tutClass);
         Set<Tag> tags = personToEdit.getTags();
 
-        return new Person(name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+        return new Person(id, name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
     }
 
     @Override
@@ -23,8 +23,10 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.GradeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UnattendCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -45,7 +47,8 @@ public class AddressBookParser {
         AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
         ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
         ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, GradeCommand.COMMAND_WORD,
-        AttendCommand.COMMAND_WORD, UnattendCommand.COMMAND_WORD, SortCommand.COMMAND_WORD
+        AttendCommand.COMMAND_WORD, UnattendCommand.COMMAND_WORD, SortCommand.COMMAND_WORD,
+        UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD
     );
     /**
      * Parses user input into command for execution.
@@ -107,6 +110,12 @@ public class AddressBookParser {
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case MESSAGE_AMBIGUOUS_COMMAND:
             throw new ParseException(MESSAGE_AMBIGUOUS_COMMAND);
 
@@ -0,0 +1,96 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AttendanceQuery;
+import seedu.address.model.person.TutorialClass;
+
+/**
+ * Parses an attendance query such as {@code not t4 and not t5} into an {@code AttendanceQuery}.
+ * {@code not} binds tightest, then {@code and}, then {@code or}; parentheses group sub-queries.
+ */
+class AttendanceQueryParser {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private final List<String> tokens;
+    private int position;
+
+    private AttendanceQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code query} into an {@code AttendanceQuery}.
+     *
+     * @throws ParseException if {@code query} is not a well-formed attendance query.
+     */
+    static AttendanceQuery parse(String query) throws ParseException {
+        AttendanceQueryParser parser = new AttendanceQueryParser(tokenize(query));
+        AttendanceQuery parsed = parser.parseOr();
+        if (parser.position != parser.tokens.size()) {
+            throw new ParseException(AttendanceQuery.MESSAGE_CONSTRAINTS);
+        }
+        return parsed;
+    }
+
+    // Splits the query into words, with each parenthesis as a word of its own
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : query.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ").trim()
+                .split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    private AttendanceQuery parseOr() throws ParseException {
+        AttendanceQuery query = parseAnd();
+        while (accept(OR)) {
+            query = AttendanceQuery.or(query, parseAnd());
+        }
+        return query;
+    }
+
+    private AttendanceQuery parseAnd() throws ParseException {
+        AttendanceQuery query = parseNot();
+        while (accept(AND)) {
+            query = AttendanceQuery.and(query, parseNot());
+        }
+        return query;
+    }
+
+    private AttendanceQuery parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return AttendanceQuery.not(parseNot());
+        }
+        if (accept(OPEN)) {
+            AttendanceQuery query = parseOr();
+            if (!accept(CLOSE)) {
+                throw new ParseException(AttendanceQuery.MESSAGE_CONSTRAINTS);
+            }
+            return query;
+        }
+        if (position == tokens.size() || !TutorialClass.isValidTutorialClass(tokens.get(position))) {
+            throw new ParseException(AttendanceQuery.MESSAGE_CONSTRAINTS);
+        }
+        return AttendanceQuery.attended(TutorialClass.fromString(tokens.get(position++)));
+    }
+
+    // Consumes the next token if it is the given keyword or parenthesis, ignoring case
+    private boolean accept(String expected) {
+        if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(expected)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+}
@@ -12,6 +12,8 @@ import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AttendanceQuery;
+import seedu.address.model.person.GradeRange;
 import seedu.address.model.person.PersonContainsKeywords;
 
 /**
@@ -47,18 +49,24 @@ public class FindCommandParser implements Parser<FindCommand> {
                         CliSyntax.PREFIX_NAME,
                         CliSyntax.PREFIX_EMAIL,
                         CliSyntax.PREFIX_TELEHANDLE,
-                        CliSyntax.PREFIX_TUTORIAL_GROUP
+                        CliSyntax.PREFIX_TUTORIAL_GROUP,
+                        CliSyntax.PREFIX_GRADE,
+                        CliSyntax.PREFIX_TUTORIALCLASS
                 );
 
         List<String> nameKeywords = splitToWords(argMultimap.getAllValues(CliSyntax.PREFIX_NAME));
         List<String> emailKeywords = splitToWords(argMultimap.getAllValues(CliSyntax.PREFIX_EMAIL));
         List<String> teleKeywords = splitToWords(argMultimap.getAllValues(CliSyntax.PREFIX_TELEHANDLE));
         List<String> tutorialGroups = filterAndTrim(argMultimap.getAllValues(CliSyntax.PREFIX_TUTORIAL_GROUP));
+        List<String> gradeRanges = filterAndTrim(argMultimap.getAllValues(CliSyntax.PREFIX_GRADE));
+        List<String> attendanceQueries = filterAndTrim(argMultimap.getAllValues(CliSyntax.PREFIX_TUTORIALCLASS));
 
         boolean noPrefixedValues = nameKeywords.isEmpty()
                 && emailKeywords.isEmpty()
                 && teleKeywords.isEmpty()
-                && tutorialGroups.isEmpty();
+                && tutorialGroups.isEmpty()
+                && gradeRanges.isEmpty()
+                && attendanceQueries.isEmpty();
 
         if (noPrefixedValues) {
             // This handles the case where there are prefixes but no value written after them
@@ -70,8 +78,16 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_NO_PREFIX, FindCommand.MESSAGE_USAGE));
         }
         List<String> allTutorialGroups = new ArrayList<>(getTutorialGroupAdditions(tutorialGroups));
-        return new FindCommand(new PersonContainsKeywords(nameKeywords, emailKeywords, teleKeywords, allTutorialGroups),
-                isVerbose);
+        List<GradeRange> parsedGradeRanges = new ArrayList<>();
+        for (String gradeRange : gradeRanges) {
+            parsedGradeRanges.add(ParserUtil.parseGradeRange(gradeRange));
+        }
+        List<AttendanceQuery> parsedAttendanceQueries = new ArrayList<>();
+        for (String attendanceQuery : attendanceQueries) {
+            parsedAttendanceQueries.add(ParserUtil.parseAttendanceQuery(attendanceQuery));
+        }
+        return new FindCommand(new PersonContainsKeywords(nameKeywords, emailKeywords, teleKeywords, allTutorialGroups,
+                parsedGradeRanges, parsedAttendanceQueries), isVerbose);
     }
 
     private static List<String> getTutorialGroupAdditions(List<String> tutorialGroups) {
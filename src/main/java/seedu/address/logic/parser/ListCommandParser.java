@@ -1,7 +1,10 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
 import static seedu.address.logic.parser.CliSyntax.SUFFIX_VERBOSE;
 
+import java.util.Optional;
+
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -17,8 +20,18 @@ public class ListCommandParser implements Parser<ListCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ListCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        String trimmedArgs = args.stripTrailing();
         boolean isVerbose = trimmedArgs.endsWith(SUFFIX_VERBOSE); // if trimmedArgs ends with "/v", treat as verbose
-        return new ListCommand(isVerbose);
+        if (isVerbose) {
+            trimmedArgs = trimmedArgs.substring(0, trimmedArgs.length() - SUFFIX_VERBOSE.length());
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmedArgs, PREFIX_TUTORIAL_GROUP);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TUTORIAL_GROUP);
+        Optional<String> tutorialGroup = argMultimap.getValue(PREFIX_TUTORIAL_GROUP);
+        if (tutorialGroup.isEmpty()) {
+            return new ListCommand(isVerbose);
+        }
+        return new ListCommand(ParserUtil.parseTutorialGroup(tutorialGroup.get()), isVerbose);
     }
 }
@@ -11,13 +11,17 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Assignments;
+import seedu.address.model.person.AttendanceQuery;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeRange;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TeleHandle;
@@ -30,6 +34,9 @@ import seedu.address.model.tag.Tag;
  */
 public class ParserUtil {
 
+    private static final Pattern GRADE_RANGE_FORMAT =
+            Pattern.compile("(?<assignment>\\w+)\\s*(?<operator><=|>=|<|>|:)\\s*(?<bounds>.+)");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -172,7 +179,7 @@ public class ParserUtil {
 
         // Allow empty grade values, which will reset it to the default value
         if (trimmedGrade.isEmpty()) {
-            return new Grade(" ");
+            return Grade.UNGRADED;
         }
 
         // Ensure its numeric
@@ -182,13 +189,11 @@ public class ParserUtil {
             throw new ParseException(Grade.MESSAGE_CONSTRAINTS);
         }
 
-        // Round to 2 d.p.
-        String formattedGrade = String.format("%.2f", floatGrade);
-
-        if (!Grade.isValidGrade(formattedGrade)) {
+        if (!Grade.isValidGrade(floatGrade)) {
             throw new ParseException(Grade.MESSAGE_CONSTRAINTS);
         }
-        return new Grade(formattedGrade);
+        // Rounds to 2 d.p.
+        return Grade.of(floatGrade);
     }
 
     /**
@@ -205,6 +210,88 @@ public class ParserUtil {
         return Assignments.fromString(trimmedAssignment);
     }
 
+    /**
+     * Parses {@code String gradeRange} into a {@code GradeRange}.
+     * A range is an assignment, or "overall", followed by {@code <}, {@code <=}, {@code >} or {@code >=} and a grade,
+     * or by {@code :} and two grades separated by {@code -}, e.g. {@code Q3<50} or {@code Finals:40-60}.
+     *
+     * @throws ParseException if the given {@code gradeRange} is invalid.
+     */
+    public static GradeRange parseGradeRange(String gradeRange) throws ParseException {
+        requireNonNull(gradeRange);
+        Matcher matcher = GRADE_RANGE_FORMAT.matcher(gradeRange.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(GradeRange.MESSAGE_CONSTRAINTS);
+        }
+
+        String assignmentName = matcher.group("assignment");
+        Assignments assignment = null;
+        if (!assignmentName.equalsIgnoreCase(GradeRange.OVERALL)) {
+            if (!Assignments.isValidAssignment(assignmentName)) {
+                throw new ParseException(GradeRange.MESSAGE_CONSTRAINTS);
+            }
+            assignment = Assignments.fromString(assignmentName);
+        }
+
+        String bounds = matcher.group("bounds");
+        int min;
+        int max;
+        switch (matcher.group("operator")) {
+        case "<":
+            min = 0;
+            max = parseGradeBound(bounds) - 1;
+            break;
+        case "<=":
+            min = 0;
+            max = parseGradeBound(bounds);
+            break;
+        case ">":
+            min = parseGradeBound(bounds) + 1;
+            max = Grade.MAX_HUNDREDTHS;
+            break;
+        case ">=":
+            min = parseGradeBound(bounds);
+            max = Grade.MAX_HUNDREDTHS;
+            break;
+        default:
+            String[] minAndMax = bounds.split("-", 2);
+            if (minAndMax.length != 2) {
+                throw new ParseException(GradeRange.MESSAGE_CONSTRAINTS);
+            }
+            min = parseGradeBound(minAndMax[0]);
+            max = parseGradeBound(minAndMax[1]);
+        }
+
+        if (!GradeRange.isValidRange(min, max)) {
+            throw new ParseException(GradeRange.MESSAGE_CONSTRAINTS);
+        }
+        return new GradeRange(assignment, min, max);
+    }
+
+    // Parses a grade bound of a range into hundredths of a mark, rounded to 2 decimal places like a grade
+    private static int parseGradeBound(String bound) throws ParseException {
+        try {
+            float value = Float.parseFloat(bound.trim());
+            if (Grade.isValidGrade(value)) {
+                return Grade.of(value).toHundredths();
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the error below
+        }
+        throw new ParseException(GradeRange.MESSAGE_CONSTRAINTS);
+    }
+
+    /**
+     * Parses {@code String attendanceQuery} into an {@code AttendanceQuery}.
+     * A query is made of tutorial classes combined with "and", "or", "not" and parentheses, e.g. {@code not t3}.
+     *
+     * @throws ParseException if the given {@code attendanceQuery} is invalid.
+     */
+    public static AttendanceQuery parseAttendanceQuery(String attendanceQuery) throws ParseException {
+        requireNonNull(attendanceQuery);
+        return AttendanceQueryParser.parse(attendanceQuery);
+    }
+
     /**
      * Parses {@code String tutorialGroup} into an {@code TutorialGroup}.
      */
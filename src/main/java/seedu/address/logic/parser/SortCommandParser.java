@@ -1,9 +1,12 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.SUFFIX_VERBOSE;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -13,6 +16,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
+    public static final String MESSAGE_DUPLICATE_FIELD = "Each field can only be sorted by once!\n";
+
     @Override
     public SortCommand parse(String userInput) throws ParseException {
         boolean isVerbose = false;
@@ -31,22 +36,39 @@ public class SortCommandParser implements Parser<SortCommand> {
         }
 
         String[] tokens = trimmed.split("\\s+");
-        // either 1 or 2 "words" are expected: field and optional order
-        if (tokens.length < 1 || tokens.length > 2) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        }
-        SortCommand.Field field = parseField(tokens[0]);
-        SortCommand.Order order = tokens.length == 2 ? parseOrder(tokens[1]) : SortCommand.Order.ASC;
+        // each field may be followed by an order, and later fields break ties in earlier ones
+        List<SortCommand.Criterion> criteria = new ArrayList<>();
+        Set<SortCommand.Field> fields = EnumSet.noneOf(SortCommand.Field.class);
+        for (int i = 0; i < tokens.length; i++) {
+            SortCommand.Field field = parseField(tokens[i]);
+            if (!fields.add(field)) {
+                throw new ParseException(MESSAGE_DUPLICATE_FIELD + SortCommand.MESSAGE_USAGE);
+            }
+            SortCommand.Order order = SortCommand.Order.ASC;
+            if (i + 1 < tokens.length && findField(tokens[i + 1]) == null) {
+                order = parseOrder(tokens[++i]);
+            }
 
-        assert field != null : "Field should not be null";
-        assert order != null : "Order should not be null";
+            assert field != null : "Field should not be null";
+            assert order != null : "Order should not be null";
+            criteria.add(new SortCommand.Criterion(field, order));
+        }
 
-        return new SortCommand(field, order, isVerbose);
+        return new SortCommand(criteria, isVerbose);
     }
 
     // checks and parses the field to sort by
     // if invalid field, throws ParseException
     private SortCommand.Field parseField(String fieldStr) throws ParseException {
+        SortCommand.Field field = findField(fieldStr);
+        if (field == null) {
+            throw new ParseException(String.format("Invalid Field name!\n" + SortCommand.MESSAGE_USAGE));
+        }
+        return field;
+    }
+
+    // returns the field named by fieldStr, or null if it does not name one
+    private SortCommand.Field findField(String fieldStr) {
         // we can consider expanding the number of ways to specify fields later
         switch (fieldStr.toLowerCase(Locale.ROOT)) {
         case "name":
@@ -59,7 +81,7 @@ public class SortCommandParser implements Parser<SortCommand> {
         case "attendance":
             return SortCommand.Field.ATTENDANCE;
         default:
-            throw new ParseException(String.format("Invalid Field name!\n" + SortCommand.MESSAGE_USAGE));
+            return null;
         }
     }
 
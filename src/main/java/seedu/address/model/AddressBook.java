@@ -3,10 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywords;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +19,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,6 +51,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -74,6 +79,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     /**
@@ -85,6 +91,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces each person in the keys of {@code edits} with the person it maps to, all at once.
+     * Every key must exist in the address book. The person identities after the edits must be unique.
+     */
+    public void setPersons(Map<Person, Person> edits) {
+        requireNonNull(edits);
+
+        persons.setPersons(edits);
+        modificationCount++;
     }
 
     /**
@@ -93,6 +111,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up the persons now in this address book in its
+     * indexes, so that only the persons that may match are tested.
+     */
+    public Predicate<Person> narrow(PersonContainsKeywords predicate) {
+        requireNonNull(predicate);
+        return persons.narrow(predicate);
+    }
+
+    /**
+     * Returns the number of modifications made to this address book since it was created.
+     * The count only ever increases, so callers can compare two readings to tell whether the data has changed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     /// / util methods
@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywords;
+import seedu.address.model.person.PersonOrder;
 
 /**
  * The API of the Model component.
@@ -57,6 +59,11 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns a counter that increases every time the address book is modified.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -82,7 +89,41 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Returns an unmodifiable view of the filtered person list
+     * Replaces each person in the keys of {@code edits} with the person it maps to, as a single change.
+     * Every key must exist in the address book.
+     * The person identities after the edits must be unique; otherwise no person is replaced.
+     */
+    void setPersons(Map<Person, Person> edits);
+
+    /**
+     * Saves the current state of the address book so that later changes can be undone back to it.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an earlier state of the address book to undo to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone state of the address book to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last committed change.
+     * There must be such a state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last undo.
+     * There must be such a state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Returns an unmodifiable view of the filtered person list, in the order set by {@link #sortPersonList}.
      */
     ObservableList<Person> getFilteredPersonList();
 
@@ -94,7 +135,16 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Sorts the person list using the given {@code comparator}.
+     * Updates the filter of the filtered person list to the persons matching {@code predicate}, which are looked up
+     * in the address book's indexes instead of testing every person.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersons(PersonContainsKeywords predicate);
+
+    /**
+     * Orders the filtered person list by the given {@code order}, which stays applied as persons are added and
+     * edited. The order of the persons in the address book is unchanged.
      */
-    void sortPersonList(Comparator<Person> comparator);
+    void sortPersonList(PersonOrder order);
 }
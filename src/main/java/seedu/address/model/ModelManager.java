@@ -4,9 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,6 +13,8 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywords;
+import seedu.address.model.person.PersonOrder;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,9 +22,13 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    // Orders the filtered persons for display, without reordering the address book itself
+    private final SortedPersonList sortedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,9 +38,10 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook = new VersionedAddressBook(addressBook, getUndoMemoryBudget());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedPersonList(filteredPersons);
     }
 
     public ModelManager() {
@@ -54,6 +59,11 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setMemoryBudget(getUndoMemoryBudget());
+    }
+
+    private long getUndoMemoryBudget() {
+        return userPrefs.getUndoMemoryBudgetMb() * BYTES_PER_MB;
     }
 
     @Override
@@ -90,6 +100,11 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -114,15 +129,47 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(Map<Person, Person> edits) {
+        requireNonNull(edits);
+
+        addressBook.setPersons(edits);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered and then sorted for display.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
@@ -132,11 +179,15 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortPersonList(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        List<Person> sortedList = new ArrayList<>(addressBook.getPersonList());
-        sortedList.sort(comparator);
-        addressBook.setPersons(sortedList);
+    public void findPersons(PersonContainsKeywords predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(addressBook.narrow(predicate));
+    }
+
+    @Override
+    public void sortPersonList(PersonOrder order) {
+        requireNonNull(order);
+        sortedPersons.setOrder(order);
     }
 
     @Override
@@ -153,7 +204,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
             && userPrefs.equals(otherModelManager.userPrefs)
-            && filteredPersons.equals(otherModelManager.filteredPersons);
+            && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
@@ -0,0 +1,214 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * A view of a list of persons in a {@link PersonOrder}, or in the list's own order until one is set.
+ * Like a {@code SortedList}, it keeps the order as the list changes, inserting each added person where it belongs.
+ * Whenever the whole list is replaced, as when its filter changes, or a new order is set, it is sorted again with
+ * {@link PersonOrder#sort(List)}, which compares keys copied into arrays rather than the persons themselves.
+ */
+class SortedPersonList extends TransformationList<Person, Person> {
+
+    // null keeps the order of the source
+    private PersonOrder order;
+    // the index in the source of the person at each index of this view, up to size
+    private int[] sourceIndexes = new int[0];
+    private int size;
+
+    SortedPersonList(ObservableList<? extends Person> source) {
+        super(source);
+        sortAll(source);
+    }
+
+    /**
+     * Orders this view by {@code order}, or in the order of the source if it is null.
+     */
+    void setOrder(PersonOrder order) {
+        this.order = order;
+        beginChange();
+        int[] oldSourceIndexes = Arrays.copyOf(sourceIndexes, size);
+        sortAll(getSource());
+
+        int[] newViewIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            newViewIndexes[sourceIndexes[i]] = i;
+        }
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = newViewIndexes[oldSourceIndexes[i]];
+        }
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(Change<? extends Person> c) {
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] >= c.getFrom() && sourceIndexes[i] < c.getTo()) {
+                sourceIndexes[i] = c.getPermutation(sourceIndexes[i]);
+            }
+        }
+        if (order != null) {
+            // the persons are the same, so their order is too
+            return;
+        }
+        int[] permutation = Arrays.copyOf(sourceIndexes, size);
+        for (int i = 0; i < size; i++) {
+            sourceIndexes[i] = i;
+        }
+        nextPermutation(0, size, permutation);
+    }
+
+    private void update(Change<? extends Person> c) {
+        for (int sourceIndex = c.getFrom(); sourceIndex < c.getTo(); sourceIndex++) {
+            if (order == null) {
+                nextUpdate(sourceIndex);
+                continue;
+            }
+            int viewIndex = getViewIndex(sourceIndex);
+            Person person = getSource().get(sourceIndex);
+            removeAt(viewIndex);
+            nextRemove(viewIndex, person);
+            insert(sourceIndex, person);
+        }
+    }
+
+    private void addRemove(Change<? extends Person> c) {
+        int from = c.getFrom();
+        int removedEnd = from + c.getRemovedSize();
+        int shift = c.getAddedSize() - c.getRemovedSize();
+        List<? extends Person> removed = c.getRemoved();
+
+        if (from == 0 && removedEnd == size) {
+            List<Person> removedInViewOrder = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                removedInViewOrder.add(removed.get(sourceIndexes[i]));
+            }
+            size = 0;
+            if (!removedInViewOrder.isEmpty()) {
+                nextRemove(0, removedInViewOrder);
+            }
+        } else {
+            // drops the removed persons and moves the indexes of the persons after them in one pass
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int sourceIndex = sourceIndexes[i];
+                if (sourceIndex >= from && sourceIndex < removedEnd) {
+                    nextRemove(kept, removed.get(sourceIndex - from));
+                } else {
+                    sourceIndexes[kept++] = sourceIndex >= removedEnd ? sourceIndex + shift : sourceIndex;
+                }
+            }
+            size = kept;
+        }
+
+        if (!c.wasAdded()) {
+            return;
+        }
+        if (size == 0) {
+            sortAll(c.getList().subList(from, c.getTo()));
+            for (int i = 0; i < size; i++) {
+                sourceIndexes[i] += from;
+            }
+            nextAdd(0, size);
+            return;
+        }
+        for (int sourceIndex = from; sourceIndex < c.getTo(); sourceIndex++) {
+            insert(sourceIndex, c.getList().get(sourceIndex));
+        }
+    }
+
+    // Sets this view to the persons in the source, sorted
+    private void sortAll(List<? extends Person> persons) {
+        size = persons.size();
+        if (order != null) {
+            sourceIndexes = order.sort(persons);
+            return;
+        }
+        sourceIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            sourceIndexes[i] = i;
+        }
+    }
+
+    // Inserts the person at sourceIndex, which the indexes in this view must already allow for, where it belongs
+    private void insert(int sourceIndex, Person person) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int result = order == null
+                    ? Integer.compare(sourceIndex, sourceIndexes[middle])
+                    : order.compare(person, getSource().get(sourceIndexes[middle]));
+            if (result < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        if (size == sourceIndexes.length) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, Math.max(16, size * 2));
+        }
+        System.arraycopy(sourceIndexes, low, sourceIndexes, low + 1, size - low);
+        sourceIndexes[low] = sourceIndex;
+        size++;
+        nextAdd(low, low + 1);
+    }
+
+    private void removeAt(int viewIndex) {
+        System.arraycopy(sourceIndexes, viewIndex + 1, sourceIndexes, viewIndex, size - viewIndex - 1);
+        size--;
+    }
+
+    @Override
+    public Person get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] == index) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,8 +14,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_MEMORY_BUDGET_MB = 16;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private int undoMemoryBudgetMb = DEFAULT_UNDO_MEMORY_BUDGET_MB;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setUndoMemoryBudgetMb(newUserPrefs.getUndoMemoryBudgetMb());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +64,29 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public int getUndoMemoryBudgetMb() {
+        return undoMemoryBudgetMb;
+    }
+
+    /**
+     * Sets the megabytes of memory that may be used to keep earlier versions of the address book for undo.
+     */
+    public void setUndoMemoryBudgetMb(int undoMemoryBudgetMb) {
+        if (undoMemoryBudgetMb < 0) {
+            throw new IllegalArgumentException("Undo memory budget cannot be negative: " + undoMemoryBudgetMb);
+        }
+        this.undoMemoryBudgetMb = undoMemoryBudgetMb;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -70,12 +100,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-            && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+            && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+            && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+            && undoMemoryBudgetMb == otherUserPrefs.undoMemoryBudgetMb;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, undoMemoryBudgetMb);
     }
 
     @Override
@@ -83,6 +115,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nUndo memory budget (MB) : " + undoMemoryBudgetMb);
         return sb.toString();
     }
 
@@ -0,0 +1,245 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBook} that remembers its committed states so that changes can be undone and redone.
+ * <p>
+ * Each state is kept as the difference from the state committed before it: the run of persons that was replaced and
+ * the run that replaced it, found by comparing the two person lists by reference. Persons are immutable, so every
+ * person a command did not touch is shared by all states, and a state costs only the persons that changed.
+ * The history is bounded by a memory budget; when the estimated size of the kept states exceeds it, the oldest
+ * states are forgotten first.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /**
+     * Estimated bytes held by one kept state apart from the persons it refers to.
+     */
+    static final long STATE_OVERHEAD_BYTES = 64;
+
+    /**
+     * Estimated bytes of one reference to a person in a kept state.
+     */
+    static final long REFERENCE_BYTES = 8;
+
+    /**
+     * Estimated bytes retained by a person that no other state shares, including its fields and maps.
+     */
+    static final long PERSON_BYTES = 512;
+
+    private final Deque<Change> undoStack = new ArrayDeque<>();
+    private final Deque<Change> redoStack = new ArrayDeque<>();
+    private List<Person> committedPersons;
+    private long memoryBudget;
+    private long historyBytes;
+
+    /**
+     * Creates a {@code VersionedAddressBook} holding the persons in {@code initialState}, which is its first
+     * committed state, and keeping at most about {@code memoryBudget} bytes of earlier states.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long memoryBudget) {
+        super(initialState);
+        committedPersons = new ArrayList<>(getPersonList());
+        setMemoryBudget(memoryBudget);
+    }
+
+    /**
+     * Sets the estimated bytes that may be held by earlier states, forgetting the oldest states beyond it.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget cannot be negative: " + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+        evictOverBudget();
+    }
+
+    /**
+     * Saves the current state so that it can be returned to by {@link #undo()}.
+     * Does nothing if the persons are unchanged since the last committed state; otherwise the states that could be
+     * redone are discarded.
+     */
+    public void commit() {
+        Change change = Change.between(committedPersons, getPersonList());
+        if (change == null) {
+            return;
+        }
+        committedPersons = new ArrayList<>(getPersonList());
+        clearRedoStack();
+        undoStack.addLast(change);
+        historyBytes += change.estimatedBytes;
+        evictOverBudget();
+    }
+
+    /**
+     * Returns true if there is a committed state before the current one.
+     * Changes that have not been committed count as a state of their own, if the budget can keep it.
+     */
+    public boolean canUndo() {
+        if (!undoStack.isEmpty()) {
+            return true;
+        }
+        Change pendingChange = Change.between(committedPersons, getPersonList());
+        return pendingChange != null && pendingChange.estimatedBytes <= memoryBudget;
+    }
+
+    /**
+     * Returns true if there is a state that was undone and can be restored.
+     */
+    public boolean canRedo() {
+        return !redoStack.isEmpty() && isCommitted();
+    }
+
+    /**
+     * Restores the committed state before the current one, committing any outstanding changes first.
+     *
+     * @throws IllegalStateException if there is no earlier state.
+     */
+    public void undo() {
+        commit();
+        if (undoStack.isEmpty()) {
+            throw new IllegalStateException("There is no state to undo to");
+        }
+        Change change = undoStack.removeLast();
+        restore(change.revert(committedPersons));
+        redoStack.addLast(change);
+    }
+
+    /**
+     * Restores the state most recently undone.
+     *
+     * @throws IllegalStateException if no state can be redone.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no state to redo");
+        }
+        Change change = redoStack.removeLast();
+        restore(change.apply(committedPersons));
+        undoStack.addLast(change);
+    }
+
+    /**
+     * Returns the estimated bytes held by the states kept for undo and redo.
+     */
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    private boolean isCommitted() {
+        return Change.between(committedPersons, getPersonList()) == null;
+    }
+
+    private void restore(List<Person> persons) {
+        setPersons(persons);
+        committedPersons = persons;
+    }
+
+    private void clearRedoStack() {
+        for (Change change : redoStack) {
+            historyBytes -= change.estimatedBytes;
+        }
+        redoStack.clear();
+    }
+
+    /**
+     * Forgets the oldest undoable states, then the furthest redoable ones, until the history fits the budget.
+     */
+    private void evictOverBudget() {
+        while (historyBytes > memoryBudget && !undoStack.isEmpty()) {
+            historyBytes -= undoStack.removeFirst().estimatedBytes;
+        }
+        while (historyBytes > memoryBudget && !redoStack.isEmpty()) {
+            historyBytes -= redoStack.removeFirst().estimatedBytes;
+        }
+    }
+
+    /**
+     * The difference between two consecutive person lists: the persons from {@code start} that were replaced, and
+     * the persons that replaced them. Everything before and after the run is the same in both lists.
+     */
+    private static final class Change {
+        private final int start;
+        private final Person[] removed;
+        private final Person[] added;
+        private final long estimatedBytes;
+
+        private Change(int start, Person[] removed, Person[] added) {
+            this.start = start;
+            this.removed = removed;
+            this.added = added;
+            estimatedBytes = estimateBytes(removed, added);
+        }
+
+        /**
+         * Returns the change that turns {@code before} into {@code after}, or null if they hold the same persons in
+         * the same order.
+         */
+        static Change between(List<Person> before, List<Person> after) {
+            int prefix = 0;
+            int shorter = Math.min(before.size(), after.size());
+            while (prefix < shorter && before.get(prefix) == after.get(prefix)) {
+                prefix++;
+            }
+            if (prefix == before.size() && prefix == after.size()) {
+                return null;
+            }
+            int suffix = 0;
+            while (suffix < shorter - prefix
+                    && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+                suffix++;
+            }
+            Person[] removed = before.subList(prefix, before.size() - suffix).toArray(new Person[0]);
+            Person[] added = after.subList(prefix, after.size() - suffix).toArray(new Person[0]);
+            return new Change(prefix, removed, added);
+        }
+
+        /**
+         * Returns the persons after this change, given the persons before it.
+         */
+        List<Person> apply(List<Person> before) {
+            return splice(before, removed.length, added);
+        }
+
+        /**
+         * Returns the persons before this change, given the persons after it.
+         */
+        List<Person> revert(List<Person> after) {
+            return splice(after, added.length, removed);
+        }
+
+        private List<Person> splice(List<Person> persons, int replacedCount, Person[] replacement) {
+            List<Person> result = new ArrayList<>(persons.size() - replacedCount + replacement.length);
+            result.addAll(persons.subList(0, start));
+            result.addAll(Arrays.asList(replacement));
+            result.addAll(persons.subList(start + replacedCount, persons.size()));
+            return result;
+        }
+
+        /**
+         * Estimates the bytes this change keeps reachable. A replaced person still in the list, such as one that was
+         * only moved, is shared with the current state and costs only its reference.
+         */
+        private static long estimateBytes(Person[] removed, Person[] added) {
+            Set<Person> addedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            addedPersons.addAll(Arrays.asList(added));
+            long bytes = STATE_OVERHEAD_BYTES + REFERENCE_BYTES * (removed.length + added.length);
+            for (Person person : removed) {
+                if (!addedPersons.contains(person)) {
+                    bytes += PERSON_BYTES;
+                }
+            }
+            return bytes;
+        }
+    }
+}
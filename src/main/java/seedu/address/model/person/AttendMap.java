@@ -1,36 +1,33 @@
 package seedu.address.model.person;
 
-import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * A map from TutorialClass to attendance status for each student.
+ * An immutable map from TutorialClass to attendance status for each student.
+ * Attendance is held as one bit per TutorialClass. {@link #withPresent(TutorialClass)} and
+ * {@link #withAbsent(TutorialClass)} return updated copies, so earlier versions stay valid.
  */
 public class AttendMap {
 
     public static final String MESSAGE_CONSTRAINTS = TutorialClass.MESSAGE_CONSTRAINTS;
 
-    private final Map<TutorialClass, Integer> attendanceMap;
+    private static final TutorialClass[] TUTORIAL_CLASSES = TutorialClass.getAllTutorialClass();
 
     /**
-     * AttendMap constructor which populates TutorialClass with default value.
+     * Bit {@code i} is set if the student attended the tutorial class with ordinal {@code i}.
      */
-    public AttendMap() {
-        attendanceMap = new EnumMap<>(TutorialClass.class);
-        // Initialize attendanceMap with default value 0
-        for (TutorialClass tut : TutorialClass.values()) {
-            attendanceMap.put(tut, 0);
-        }
-    }
+    private final int attendance;
 
     /**
-     * Constructs a AttendMap with the given map.
-     * Used for copying.
+     * AttendMap constructor which marks the student absent for every TutorialClass.
      */
-    public AttendMap(AttendMap otherAttendMap) {
-        assert otherAttendMap != null;
-        attendanceMap = new EnumMap<>(otherAttendMap.attendanceMap);
+    public AttendMap() {
+        attendance = 0;
+    }
+
+    private AttendMap(int attendance) {
+        this.attendance = attendance;
     }
 
     /**
@@ -60,32 +57,24 @@ public class AttendMap {
      * where x is the number of attended classes.
      */
     public String getOverallAttendance() {
-        int attendedClasses = 0;
-        int totalClasses = TutorialClass.getAllTutorialClass().length;
-
-        for (TutorialClass tutClass : TutorialClass.getAllTutorialClass()) {
-            attendedClasses += attendanceMap.get(tutClass);
-        }
+        return getAttendedCount() + "/" + TUTORIAL_CLASSES.length;
+    }
 
-        return attendedClasses + "/" + totalClasses;
+    /**
+     * Returns the number of tutorial classes attended.
+     */
+    public int getAttendedCount() {
+        return Integer.bitCount(attendance);
     }
 
     /**
      * Returns the attendance rate as a float between 0 and 1.
      */
     public float getAttendanceRate() {
-        int attendedClasses = 0;
-        int totalClasses = TutorialClass.getAllTutorialClass().length;
-
-        if (totalClasses == 0) {
+        if (TUTORIAL_CLASSES.length == 0) {
             return 0f;
         }
-
-        for (TutorialClass tutClass : TutorialClass.getAllTutorialClass()) {
-            attendedClasses += attendanceMap.get(tutClass);
-        }
-
-        return (float) attendedClasses / totalClasses;
+        return (float) getAttendedCount() / TUTORIAL_CLASSES.length;
     }
 
     /**
@@ -95,7 +84,7 @@ public class AttendMap {
     public String formatAttendance() {
         StringBuilder sb = new StringBuilder();
         sb.append("Attended: ");
-        for (TutorialClass tutClass : TutorialClass.getAllTutorialClass()) {
+        for (TutorialClass tutClass : TUTORIAL_CLASSES) {
             if (isPresent(tutClass)) {
                 sb.append(tutClass.getDescription()).append(", ");
             }
@@ -110,27 +99,33 @@ public class AttendMap {
     }
 
     /**
-     * Marks the student present for the given tutorial
+     * Returns an AttendMap with the student marked present for the given tutorial.
      */
-    public void markPresent(TutorialClass tut) {
-        assert attendanceMap.containsKey(tut);
-        attendanceMap.put(tut, 1);
+    public AttendMap withPresent(TutorialClass tut) {
+        return withAttendance(attendance | bitOf(tut));
     }
 
     /**
-     * Marks the student absent for the given tutorial.
+     * Returns an AttendMap with the student marked absent for the given tutorial.
      */
-    public void markAbsent(TutorialClass tut) {
-        assert attendanceMap.containsKey(tut);
-        attendanceMap.put(tut, 0);
+    public AttendMap withAbsent(TutorialClass tut) {
+        return withAttendance(attendance & ~bitOf(tut));
+    }
+
+    private AttendMap withAttendance(int updatedAttendance) {
+        return updatedAttendance == attendance ? this : new AttendMap(updatedAttendance);
     }
 
     /**
      * Checks if student is present for the given tutorial.
      */
     public boolean isPresent(TutorialClass tut) {
-        assert attendanceMap.containsKey(tut);
-        return attendanceMap.get(tut) == 1;
+        return (attendance & bitOf(tut)) != 0;
+    }
+
+    private static int bitOf(TutorialClass tut) {
+        assert tut != null;
+        return 1 << tut.ordinal();
     }
 
     @Override
@@ -143,7 +138,17 @@ public class AttendMap {
         }
 
         AttendMap other = (AttendMap) o;
-        return attendanceMap.equals(other.attendanceMap);
+        return attendance == other.attendance;
+    }
+
+    @Override
+    public int hashCode() {
+        return attendance;
+    }
+
+    @Override
+    public String toString() {
+        return toStringMap().toString();
     }
 
     /**
@@ -152,8 +157,8 @@ public class AttendMap {
      */
     public Map<String, String> toStringMap() {
         Map<String, String> stringMap = new LinkedHashMap<>();
-        for (Map.Entry<TutorialClass, Integer> entry : attendanceMap.entrySet()) {
-            stringMap.put(entry.getKey().name(), entry.getValue().toString());
+        for (TutorialClass tutClass : TUTORIAL_CLASSES) {
+            stringMap.put(tutClass.name(), isPresent(tutClass) ? "1" : "0");
         }
         return stringMap;
     }
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bitmap per tutorial class of the persons who attended it, so that attendance queries are answered with a few
+ * word-level operations over the whole cohort instead of by testing each person.
+ * <p>
+ * Each person is given a slot, which is its bit in every bitmap. The slots of removed persons are handed out again
+ * before new ones, so the bitmaps stay as dense as the cohort and never need to be rebuilt.
+ */
+class AttendanceIndex {
+
+    private static final TutorialClass[] TUTORIAL_CLASSES = TutorialClass.getAllTutorialClass();
+
+    private final BitSet[] attended = new BitSet[TUTORIAL_CLASSES.length];
+    private final BitSet indexed = new BitSet();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+    // no slot below this is free
+    private int lowestFreeSlot;
+
+    AttendanceIndex() {
+        for (int i = 0; i < attended.length; i++) {
+            attended[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Adds {@code person} to the bitmaps of the tutorial classes it attended.
+     */
+    void add(Person person) {
+        int slot = indexed.nextClearBit(lowestFreeSlot);
+        lowestFreeSlot = slot + 1;
+        if (slot == persons.size()) {
+            persons.add(person);
+        } else {
+            persons.set(slot, person);
+        }
+        slots.put(person, slot);
+        indexed.set(slot);
+        for (TutorialClass tutorialClass : TUTORIAL_CLASSES) {
+            if (person.hasAttendedTutorial(tutorialClass)) {
+                attended[tutorialClass.ordinal()].set(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the bitmaps.
+     */
+    void remove(Person person) {
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        persons.set(slot, null);
+        indexed.clear(slot);
+        lowestFreeSlot = Math.min(lowestFreeSlot, slot);
+        for (BitSet bitmap : attended) {
+            bitmap.clear(slot);
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        for (BitSet bitmap : attended) {
+            bitmap.clear();
+        }
+        indexed.clear();
+        slots.clear();
+        persons.clear();
+        lowestFreeSlot = 0;
+    }
+
+    /**
+     * Returns a copy of the bitmap of the persons who attended {@code tutorialClass}.
+     */
+    BitSet getAttended(TutorialClass tutorialClass) {
+        return (BitSet) attended[tutorialClass.ordinal()].clone();
+    }
+
+    /**
+     * Returns a copy of the bitmap of every person in the index.
+     */
+    BitSet getIndexed() {
+        return (BitSet) indexed.clone();
+    }
+
+    /**
+     * Returns the persons whose slots are set in {@code bitmap}.
+     */
+    List<Person> getPersons(BitSet bitmap) {
+        List<Person> found = new ArrayList<>(bitmap.cardinality());
+        for (int slot = bitmap.nextSetBit(0); slot >= 0; slot = bitmap.nextSetBit(slot + 1)) {
+            found.add(persons.get(slot));
+        }
+        return found;
+    }
+}
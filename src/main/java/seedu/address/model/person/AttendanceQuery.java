@@ -0,0 +1,146 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Tests a {@code Person}'s attendance against an expression of the tutorial classes attended, combined with
+ * {@code and}, {@code or} and {@code not}. For example, {@code not t4 and not t5} matches the persons who missed both
+ * tutorials 4 and 5.
+ */
+public class AttendanceQuery implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Attendance queries should be tutorial classes combined with "
+            + "'and', 'or', 'not' and parentheses, e.g. 'not t3' or 'not (t4 or t5)'.\n"
+            + TutorialClass.MESSAGE_CONSTRAINTS;
+
+    private enum Operator {
+        ATTENDED, NOT, AND, OR
+    }
+
+    private final Operator operator;
+    // set only for ATTENDED
+    private final TutorialClass tutorialClass;
+    // the operand of NOT, and the operands of AND and OR
+    private final AttendanceQuery left;
+    private final AttendanceQuery right;
+
+    private AttendanceQuery(Operator operator, TutorialClass tutorialClass, AttendanceQuery left,
+                            AttendanceQuery right) {
+        this.operator = operator;
+        this.tutorialClass = tutorialClass;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Returns a query for the persons who attended {@code tutorialClass}.
+     */
+    public static AttendanceQuery attended(TutorialClass tutorialClass) {
+        requireNonNull(tutorialClass);
+        return new AttendanceQuery(Operator.ATTENDED, tutorialClass, null, null);
+    }
+
+    /**
+     * Returns a query for the persons who do not satisfy {@code query}.
+     */
+    public static AttendanceQuery not(AttendanceQuery query) {
+        requireNonNull(query);
+        return new AttendanceQuery(Operator.NOT, null, query, null);
+    }
+
+    /**
+     * Returns a query for the persons who satisfy both {@code left} and {@code right}.
+     */
+    public static AttendanceQuery and(AttendanceQuery left, AttendanceQuery right) {
+        requireNonNull(left);
+        requireNonNull(right);
+        return new AttendanceQuery(Operator.AND, null, left, right);
+    }
+
+    /**
+     * Returns a query for the persons who satisfy {@code left}, {@code right} or both.
+     */
+    public static AttendanceQuery or(AttendanceQuery left, AttendanceQuery right) {
+        requireNonNull(left);
+        requireNonNull(right);
+        return new AttendanceQuery(Operator.OR, null, left, right);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (operator) {
+        case ATTENDED:
+            return person.hasAttendedTutorial(tutorialClass);
+        case NOT:
+            return !left.test(person);
+        case AND:
+            return left.test(person) && right.test(person);
+        default:
+            return left.test(person) || right.test(person);
+        }
+    }
+
+    /**
+     * Returns the bitmap of the persons in {@code index} who satisfy this query, computed from the index's bitmaps.
+     */
+    BitSet evaluate(AttendanceIndex index) {
+        BitSet result;
+        switch (operator) {
+        case ATTENDED:
+            return index.getAttended(tutorialClass);
+        case NOT:
+            result = index.getIndexed();
+            result.andNot(left.evaluate(index));
+            return result;
+        case AND:
+            result = left.evaluate(index);
+            result.and(right.evaluate(index));
+            return result;
+        default:
+            result = left.evaluate(index);
+            result.or(right.evaluate(index));
+            return result;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceQuery)) {
+            return false;
+        }
+
+        AttendanceQuery otherQuery = (AttendanceQuery) other;
+        return operator == otherQuery.operator
+                && tutorialClass == otherQuery.tutorialClass
+                && Objects.equals(left, otherQuery.left)
+                && Objects.equals(right, otherQuery.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, tutorialClass, left, right);
+    }
+
+    @Override
+    public String toString() {
+        switch (operator) {
+        case ATTENDED:
+            return tutorialClass.name();
+        case NOT:
+            return "not " + left;
+        case AND:
+            return "(" + left + " and " + right + ")";
+        default:
+            return "(" + left + " or " + right + ")";
+        }
+    }
+}
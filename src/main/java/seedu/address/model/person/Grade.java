@@ -6,6 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Person's grade in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidGrade(String)}
+ * <p>
+ * There are only a few thousand distinct grades, so {@link #of(String)}, {@link #of(float)} and
+ * {@link #fromHundredths(int)} hand out one shared instance per grade instead of constructing new ones.
  */
 public class Grade {
 
@@ -19,35 +22,115 @@ public class Grade {
      */
     public static final String VALIDATION_REGEX = "^( |100\\.00|\\d{1,2}\\.\\d{2})$";
 
+    /**
+     * The highest grade, in hundredths of a mark.
+     */
+    public static final int MAX_HUNDREDTHS = 10000;
+
+    /**
+     * The grade of an assignment that has not been graded.
+     */
+    public static final Grade UNGRADED = new Grade(" ", -1);
+
+    private static final int UNGRADED_HUNDREDTHS = -1;
+    private static final int INVALID_HUNDREDTHS = -2;
+    private static final String MAX_VALUE = "100.00";
+
+    // filled in on first use; racing threads may both create an instance for a grade, which are equal
+    private static final Grade[] CACHE = new Grade[MAX_HUNDREDTHS + 1];
+
     public final String value;
 
     public final float valueFloat;
 
+    private final int hundredths;
+
     /**
      * Constructs a {@code Grade}.
+     * Prefer {@link #of(String)}, which does not create a new instance.
      *
      * @param value A valid grade number with exactly 2 decimal places.
      */
     public Grade(String value) {
         requireNonNull(value);
-        checkArgument(isValidGrade(value), VALIDATION_REGEX);
+        int hundredths = parseHundredths(value);
+        checkArgument(hundredths != INVALID_HUNDREDTHS, VALIDATION_REGEX);
         this.value = value;
-        this.valueFloat = value.equals(" ") ? 0.0f : Float.parseFloat(value);
+        this.valueFloat = hundredths == UNGRADED_HUNDREDTHS ? 0.0f : hundredths / 100f;
+        this.hundredths = hundredths;
     }
 
     /**
      * Constructs a {@code Grade} from a float.
+     * Prefer {@link #of(float)}, which does not create a new instance.
      *
      * @param value A valid grade number between 0.00 and 100.00.
      */
     public Grade(float value) {
         // primitive float cannot be null
-        String valueStr = String.format("%.2f", value);
-        checkArgument(isValidGrade(valueStr), VALIDATION_REGEX);
-        this.value = valueStr;
+        checkArgument(isValidGrade(value), VALIDATION_REGEX);
+        this.hundredths = roundToHundredths(value);
+        this.value = formatHundredths(hundredths);
         this.valueFloat = value;
     }
 
+    private Grade(String value, int hundredths) {
+        this.value = value;
+        this.valueFloat = hundredths == UNGRADED_HUNDREDTHS ? 0.0f : hundredths / 100f;
+        this.hundredths = hundredths;
+    }
+
+    /**
+     * Returns the {@code Grade} of {@code value}, which is a valid grade as declared in {@link #isValidGrade(String)}.
+     */
+    public static Grade of(String value) {
+        requireNonNull(value);
+        int hundredths = parseHundredths(value);
+        checkArgument(hundredths != INVALID_HUNDREDTHS, VALIDATION_REGEX);
+        return hundredths == UNGRADED_HUNDREDTHS ? UNGRADED : fromHundredths(hundredths);
+    }
+
+    /**
+     * Returns the {@code Grade} of {@code value} rounded to 2 decimal places.
+     *
+     * @param value A valid grade number between 0.00 and 100.00.
+     */
+    public static Grade of(float value) {
+        checkArgument(isValidGrade(value), VALIDATION_REGEX);
+        return fromHundredths(roundToHundredths(value));
+    }
+
+    /**
+     * Returns the {@code Grade} worth {@code hundredths} hundredths of a mark.
+     *
+     * @param hundredths A number between 0 and {@link #MAX_HUNDREDTHS}.
+     */
+    public static Grade fromHundredths(int hundredths) {
+        checkArgument(hundredths >= 0 && hundredths <= MAX_HUNDREDTHS, MESSAGE_CONSTRAINTS);
+        Grade grade = CACHE[hundredths];
+        if (grade == null) {
+            grade = new Grade(formatHundredths(hundredths), hundredths);
+            CACHE[hundredths] = grade;
+        }
+        return grade;
+    }
+
+    /**
+     * Returns true if this grade has been given a value.
+     */
+    public boolean isGraded() {
+        return hundredths != UNGRADED_HUNDREDTHS;
+    }
+
+    /**
+     * Returns this grade in hundredths of a mark, exactly as displayed.
+     * Must only be called on a grade that {@link #isGraded()}.
+     */
+    public int toHundredths() {
+        assert isGraded();
+        return hundredths;
+    }
+
     /**
      * Returns true if a given string is a valid grade for the constructor.
      * Valid grade: 0.00 to 100.00 and has exactly 2 decimal places.
@@ -56,7 +139,54 @@ public class Grade {
      * @return true if string is a valid grade
      */
     public static boolean isValidGrade(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return parseHundredths(test) != INVALID_HUNDREDTHS;
+    }
+
+    /**
+     * Returns true if {@code test} is between 0.00 and 100.00 once rounded to 2 decimal places.
+     */
+    public static boolean isValidGrade(float test) {
+        return test >= 0 && roundToHundredths(test) <= MAX_HUNDREDTHS;
+    }
+
+    /**
+     * Returns the hundredths of a mark written in {@code value}, {@link #UNGRADED_HUNDREDTHS} if it is empty or
+     * {@link #INVALID_HUNDREDTHS} if it does not match {@link #VALIDATION_REGEX}.
+     */
+    private static int parseHundredths(String value) {
+        int length = value.length();
+        if (length == 1) {
+            return value.charAt(0) == ' ' ? UNGRADED_HUNDREDTHS : INVALID_HUNDREDTHS;
+        }
+        if (length == MAX_VALUE.length()) {
+            return value.equals(MAX_VALUE) ? MAX_HUNDREDTHS : INVALID_HUNDREDTHS;
+        }
+        if (length < 4 || length > 5 || value.charAt(length - 3) != '.') {
+            return INVALID_HUNDREDTHS;
+        }
+
+        int hundredths = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == length - 3) {
+                continue;
+            }
+            char digit = value.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return INVALID_HUNDREDTHS;
+            }
+            hundredths = hundredths * 10 + (digit - '0');
+        }
+        return hundredths;
+    }
+
+    private static int roundToHundredths(float value) {
+        // rounds half up like String.format("%.2f"), widening first so that the multiplication is exact
+        return (int) Math.min(Math.round((double) value * 100), Integer.MAX_VALUE);
+    }
+
+    private static String formatHundredths(int hundredths) {
+        int fraction = hundredths % 100;
+        return (hundredths / 100) + (fraction < 10 ? ".0" : ".") + fraction;
     }
 
     @Override
@@ -76,12 +206,12 @@ public class Grade {
         }
 
         Grade otherGrade = (Grade) other;
-        return value.equals(otherGrade.value);
+        return hundredths == otherGrade.hundredths;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hundredths;
     }
 
 }
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Graded persons ordered by their grade for each assignment and by their overall grade, so that the persons whose
+ * grade lies in a range are found in O(log n + k) time instead of by testing the whole cohort.
+ * Grades are keyed by their hundredths of a mark, of which there are at most a few thousand distinct values.
+ */
+class GradeIndex {
+
+    private static final Assignments[] ASSIGNMENTS = Assignments.getAllAssignments();
+
+    // one ordering per assignment, by ordinal, followed by the ordering by overall grade
+    private final List<TreeMap<Integer, Set<Person>>> byGrade = new ArrayList<>();
+
+    GradeIndex() {
+        for (int i = 0; i <= ASSIGNMENTS.length; i++) {
+            byGrade.add(new TreeMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code person} to the ordering of each of its graded assignments and of its overall grade.
+     */
+    void add(Person person) {
+        for (Assignments assignment : ASSIGNMENTS) {
+            add(assignment.ordinal(), person.getGradeMap().get(assignment), person);
+        }
+        add(ASSIGNMENTS.length, person.getOverallGrade(), person);
+    }
+
+    private void add(int slot, Grade grade, Person person) {
+        if (grade.isGraded()) {
+            byGrade.get(slot).computeIfAbsent(grade.toHundredths(),
+                    unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from every ordering.
+     */
+    void remove(Person person) {
+        for (Assignments assignment : ASSIGNMENTS) {
+            remove(assignment.ordinal(), person.getGradeMap().get(assignment), person);
+        }
+        remove(ASSIGNMENTS.length, person.getOverallGrade(), person);
+    }
+
+    private void remove(int slot, Grade grade, Person person) {
+        if (!grade.isGraded()) {
+            return;
+        }
+        TreeMap<Integer, Set<Person>> ordering = byGrade.get(slot);
+        Set<Person> graded = ordering.get(grade.toHundredths());
+        if (graded != null && graded.remove(person) && graded.isEmpty()) {
+            ordering.remove(grade.toHundredths());
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        byGrade.forEach(TreeMap::clear);
+    }
+
+    /**
+     * Returns the persons whose grade lies within {@code range}.
+     */
+    List<Person> findInRange(GradeRange range) {
+        int slot = range.getAssignment() == null ? ASSIGNMENTS.length : range.getAssignment().ordinal();
+        List<Person> found = new ArrayList<>();
+        byGrade.get(slot).subMap(range.getMinHundredths(), true, range.getMaxHundredths(), true).values()
+                .forEach(found::addAll);
+        return found;
+    }
+}
@@ -1,30 +1,62 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
- * A map from assignments to grades for each student.
+ * An immutable map from assignments to grades for each student.
+ * Grades are kept in hundredths of a mark, indexed by the ordinal of their assignment.
+ * {@link #with(Assignments, Grade)} returns an updated copy, so earlier versions stay valid.
+ * <p>
+ * Every assignment is a key, in the order of {@link Assignments}, mapped to an empty grade until it is graded.
+ * As a {@code Map}, it is read-only: {@code put} and the other mutators throw
+ * {@code UnsupportedOperationException}.
  */
-public class GradeMap extends LinkedHashMap<Assignments, Grade> {
+public class GradeMap extends AbstractMap<Assignments, Grade> {
     public static final String MESSAGE_CONSTRAINTS = Grade.MESSAGE_CONSTRAINTS + "\n" + Assignments.MESSAGE_CONSTRAINTS;
 
+    /**
+     * Marks an assignment that has not been graded.
+     */
+    static final short UNGRADED = -1;
+
+    private static final Assignments[] ASSIGNMENTS = Assignments.getAllAssignments();
+
+    private final short[] hundredths;
+
     /**
      * Constructs a default GradeList with uninitialized scores.
      */
     public GradeMap() {
-        super();
-        for (Assignments gradeType : Assignments.getAllAssignments()) {
-            this.put(gradeType, new Grade(" "));
-        }
+        hundredths = new short[ASSIGNMENTS.length];
+        Arrays.fill(hundredths, UNGRADED);
     }
 
     /**
-     * Constructs a GradeList with the given map.
-     * Used for copying.
+     * Constructs a GradeList with the grades in the given map.
+     * Assignments missing from the map are left ungraded.
      */
-    public GradeMap(LinkedHashMap<Assignments, Grade> map) {
-        super(map);
+    public GradeMap(Map<Assignments, Grade> map) {
+        this();
+        requireNonNull(map);
+        for (Map.Entry<Assignments, Grade> entry : map.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                throw new IllegalArgumentException("Key and value must not be null");
+            }
+            hundredths[entry.getKey().ordinal()] = toHundredths(entry.getValue());
+        }
+    }
+
+    private GradeMap(short[] hundredths) {
+        this.hundredths = hundredths;
     }
 
     /**
@@ -47,19 +79,18 @@ public class GradeMap extends LinkedHashMap<Assignments, Grade> {
      * If there are no grades, returns a Grade with an empty value.
      */
     public Grade getOverallGrade() {
-        float totalGrade = 0f;
+        int totalHundredths = 0;
         int count = 0;
-        for (Assignments gradeType : Assignments.getAllAssignments()) {
-            Grade grade = this.get(gradeType);
-            if (grade != null && !grade.value.equals(" ")) {
-                totalGrade += grade.valueFloat;
+        for (short grade : hundredths) {
+            if (grade != UNGRADED) {
+                totalHundredths += grade;
                 count++;
             }
         }
         if (count != 0) {
-            return new Grade(totalGrade / count);
+            return Grade.of(totalHundredths / 100f / count);
         } else {
-            return new Grade(" ");
+            return Grade.UNGRADED;
         }
     }
 
@@ -69,12 +100,11 @@ public class GradeMap extends LinkedHashMap<Assignments, Grade> {
      */
     public String formatGrades() {
         StringBuilder sb = new StringBuilder();
-        for (Assignments assignment : Assignments.getAllAssignments()) {
-            Grade grade = this.get(assignment);
-            if (grade != null && !grade.value.equals(" ")) {
+        for (Assignments assignment : ASSIGNMENTS) {
+            if (isGraded(assignment)) {
                 sb.append(assignment.name())
                         .append(": ")
-                        .append(grade)
+                        .append(get(assignment))
                         .append(", ");
             }
         }
@@ -85,29 +115,131 @@ public class GradeMap extends LinkedHashMap<Assignments, Grade> {
         return sb.toString();
     }
 
-    @Override
-    public Grade put(Assignments key, Grade value) {
+    /**
+     * Returns a GradeMap with the grade of {@code key} set to {@code value} and every other grade unchanged.
+     * This GradeMap is returned if it already has that grade.
+     */
+    public GradeMap with(Assignments key, Grade value) {
         if (key == null || value == null) {
             throw new IllegalArgumentException("Key and value must not be null");
         }
-        return super.put(key, value);
+        short grade = toHundredths(value);
+        if (hundredths[key.ordinal()] == grade) {
+            return this;
+        }
+        short[] updated = hundredths.clone();
+        updated[key.ordinal()] = grade;
+        return new GradeMap(updated);
     }
 
+    private static short toHundredths(Grade grade) {
+        return grade.isGraded() ? (short) grade.toHundredths() : UNGRADED;
+    }
+
+    /**
+     * Returns the grade of {@code key}, which has an empty value if it has not been graded.
+     *
+     * @throws IllegalArgumentException if {@code key} is not an assignment.
+     */
     @Override
     public Grade get(Object key) {
         if (!(key instanceof Assignments)) {
             throw new IllegalArgumentException("Key must be an Assignment");
         }
-        return super.get(key);
+        short grade = hundredths[((Assignments) key).ordinal()];
+        return grade == UNGRADED ? Grade.UNGRADED : Grade.fromHundredths(grade);
+    }
+
+    /**
+     * Returns true if {@code key} is an assignment, all of which have a grade, even if empty.
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Assignments;
+    }
+
+    @Override
+    public int size() {
+        return ASSIGNMENTS.length;
+    }
+
+    /**
+     * Returns a read-only view of the grade of each assignment, in the order of {@link Assignments}.
+     */
+    @Override
+    public Set<Map.Entry<Assignments, Grade>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Assignments, Grade>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < ASSIGNMENTS.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Assignments, Grade> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Assignments assignment = ASSIGNMENTS[next++];
+                        return new SimpleImmutableEntry<>(assignment, get(assignment));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ASSIGNMENTS.length;
+            }
+        };
+    }
+
+    /**
+     * Returns a GradeMap with the same grades.
+     */
+    @Override
+    public GradeMap clone() {
+        return new GradeMap(hundredths.clone());
+    }
+
+    /**
+     * Returns true if {@code assignment} has been graded.
+     */
+    public boolean isGraded(Assignments assignment) {
+        return hundredths[assignment.ordinal()] != UNGRADED;
+    }
+
+    /**
+     * Returns the grade of {@code assignment} as a number, which is 0 if it has not been graded.
+     */
+    public float getValue(Assignments assignment) {
+        short grade = hundredths[assignment.ordinal()];
+        return grade == UNGRADED ? 0f : grade / 100f;
     }
 
     @Override
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
         if (!(o instanceof GradeMap)) {
             return false;
         }
         GradeMap other = (GradeMap) o;
-        return super.equals(other);
+        return Arrays.equals(hundredths, other.hundredths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(hundredths);
+    }
+
+    @Override
+    public String toString() {
+        return toStringMap().toString();
     }
 
     /**
@@ -116,8 +248,8 @@ public class GradeMap extends LinkedHashMap<Assignments, Grade> {
      */
     public Map<String, String> toStringMap() {
         Map<String, String> stringMap = new LinkedHashMap<>();
-        for (Map.Entry<Assignments, Grade> entry : this.entrySet()) {
-            stringMap.put(entry.getKey().name(), entry.getValue().toString());
+        for (Assignments assignment : ASSIGNMENTS) {
+            stringMap.put(assignment.name(), get(assignment).toString());
         }
         return stringMap;
     }
@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s grade for an assignment, or overall grade, lies within an inclusive range.
+ * Persons who have not been graded are never within a range.
+ */
+public class GradeRange implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Grade ranges should be written as ASSIGNMENT<GRADE, "
+            + "ASSIGNMENT<=GRADE, ASSIGNMENT>GRADE, ASSIGNMENT>=GRADE or ASSIGNMENT:MIN-MAX, "
+            + "where ASSIGNMENT is one of the assignments or 'overall', e.g. Q3<50 or Finals:40-60.\n"
+            + "A range must contain at least one grade between 0 and 100.";
+
+    /**
+     * The name given to the overall grade in place of an assignment.
+     */
+    public static final String OVERALL = "overall";
+
+    // null for the overall grade
+    private final Assignments assignment;
+    private final int minHundredths;
+    private final int maxHundredths;
+
+    /**
+     * Constructs a {@code GradeRange} of the grades from {@code minHundredths} to {@code maxHundredths} hundredths of
+     * a mark inclusive, for {@code assignment}, or for the overall grade if it is null.
+     */
+    public GradeRange(Assignments assignment, int minHundredths, int maxHundredths) {
+        checkArgument(isValidRange(minHundredths, maxHundredths), MESSAGE_CONSTRAINTS);
+        this.assignment = assignment;
+        this.minHundredths = minHundredths;
+        this.maxHundredths = maxHundredths;
+    }
+
+    /**
+     * Returns true if the grades from {@code minHundredths} to {@code maxHundredths} inclusive include at least one
+     * valid grade.
+     */
+    public static boolean isValidRange(int minHundredths, int maxHundredths) {
+        return minHundredths <= maxHundredths && maxHundredths >= 0 && minHundredths <= Grade.MAX_HUNDREDTHS;
+    }
+
+    /**
+     * Returns the assignment whose grades are in range, or null if it is the overall grade.
+     */
+    public Assignments getAssignment() {
+        return assignment;
+    }
+
+    public int getMinHundredths() {
+        return minHundredths;
+    }
+
+    public int getMaxHundredths() {
+        return maxHundredths;
+    }
+
+    /**
+     * Returns the grade of {@code person} this range applies to.
+     */
+    Grade gradeOf(Person person) {
+        return assignment == null ? person.getOverallGrade() : person.getGradeMap().get(assignment);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Grade grade = gradeOf(person);
+        return grade.isGraded() && grade.toHundredths() >= minHundredths && grade.toHundredths() <= maxHundredths;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GradeRange)) {
+            return false;
+        }
+
+        GradeRange otherRange = (GradeRange) other;
+        return assignment == otherRange.assignment
+                && minHundredths == otherRange.minHundredths
+                && maxHundredths == otherRange.maxHundredths;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(assignment, minHundredths, maxHundredths);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("assignment", assignment == null ? OVERALL : assignment)
+                .add("minHundredths", minHundredths)
+                .add("maxHundredths", maxHundredths)
+                .toString();
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Tests whether a text contains any of a set of keywords, ignoring case, by scanning the text once.
+ * <p>
+ * The keywords are compiled into an Aho-Corasick automaton: a trie of the keywords in which every state also knows
+ * the longest proper suffix of its prefix that is itself a prefix of some keyword. Reading the text one character at
+ * a time then follows at most one trie edge per character, however many keywords there are. Characters are compared
+ * after {@link #fold(char) case folding}, so testing a text allocates nothing. The next state for each ASCII character
+ * is looked up in a table, as names, emails and Telegram handles are mostly ASCII.
+ */
+class KeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int ASCII_SIZE = 128;
+
+    // The edges out of each state, as labels sorted in ascending order and the states they lead to
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final boolean[] isMatch;
+    private final int[][] asciiTransitions;
+
+    /**
+     * Compiles a matcher for {@code keywords}. A matcher without keywords matches no text.
+     */
+    KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        List<StringBuilder> edgeLabels = new ArrayList<>();
+        List<List<Integer>> edgeTargets = new ArrayList<>();
+        List<Boolean> isKeywordEnd = new ArrayList<>();
+        addState(edgeLabels, edgeTargets, isKeywordEnd);
+
+        for (String keyword : keywords) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = fold(keyword.charAt(i));
+                int edge = edgeLabels.get(state).indexOf(String.valueOf(c));
+                if (edge == -1) {
+                    edgeLabels.get(state).append(c);
+                    edgeTargets.get(state).add(edgeLabels.size());
+                    state = addState(edgeLabels, edgeTargets, isKeywordEnd);
+                } else {
+                    state = edgeTargets.get(state).get(edge);
+                }
+            }
+            isKeywordEnd.set(state, true);
+        }
+
+        int stateCount = edgeLabels.size();
+        labels = new char[stateCount][];
+        targets = new int[stateCount][];
+        failures = new int[stateCount];
+        isMatch = new boolean[stateCount];
+        asciiTransitions = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            sortEdges(state, edgeLabels.get(state).toString().toCharArray(), edgeTargets.get(state));
+            isMatch[state] = isKeywordEnd.get(state);
+        }
+        linkFailures();
+    }
+
+    /**
+     * Returns the case folded form of {@code c}, under which characters that differ only in case are equal.
+     * This is the comparison made by {@link String#equalsIgnoreCase(String)}.
+     */
+    static char fold(char c) {
+        if (c < ASCII_SIZE) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords, ignoring case.
+     */
+    boolean isFoundIn(String text) {
+        int state = ROOT;
+        if (isMatch[state]) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            state = c < ASCII_SIZE ? asciiTransitions[state][c] : next(state, fold(c));
+            if (isMatch[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int addState(List<StringBuilder> edgeLabels, List<List<Integer>> edgeTargets,
+            List<Boolean> isKeywordEnd) {
+        edgeLabels.add(new StringBuilder());
+        edgeTargets.add(new ArrayList<>());
+        isKeywordEnd.add(false);
+        return edgeLabels.size() - 1;
+    }
+
+    private void sortEdges(int state, char[] unsortedLabels, List<Integer> unsortedTargets) {
+        Integer[] order = new Integer[unsortedLabels.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i, j) -> Character.compare(unsortedLabels[i], unsortedLabels[j]));
+        labels[state] = new char[order.length];
+        targets[state] = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            labels[state][i] = unsortedLabels[order[i]];
+            targets[state][i] = unsortedTargets.get(order[i]);
+        }
+    }
+
+    /**
+     * Links every state to its failure state, visiting the states in order of depth so that the failure state of each
+     * is linked before it is needed. A state also matches if its failure state does, as the keyword ending there is a
+     * suffix of the text read so far. The ASCII transitions of each state are filled in at the same time.
+     */
+    private void linkFailures() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        fillAsciiTransitions(ROOT);
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            fillAsciiTransitions(state);
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                failures[child] = next(failures[state], labels[state][i]);
+                isMatch[child] |= isMatch[failures[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Fills in the state reached from {@code state} by each ASCII character, which is that of the failure state
+     * unless {@code state} has an edge for the character. The failure state must already be filled in.
+     */
+    private void fillAsciiTransitions(int state) {
+        int[] transitions = state == ROOT ? new int[ASCII_SIZE] : asciiTransitions[failures[state]].clone();
+        for (int c = 0; c < ASCII_SIZE; c++) {
+            int edge = Arrays.binarySearch(labels[state], fold((char) c));
+            if (edge >= 0) {
+                transitions[c] = targets[state][edge];
+            }
+        }
+        asciiTransitions[state] = transitions;
+    }
+
+    /**
+     * Returns the state reached by reading {@code c} in {@code state}, following failure links until an edge for it
+     * is found.
+     */
+    private int next(int state, char c) {
+        while (true) {
+            int edge = Arrays.binarySearch(labels[state], c);
+            if (edge >= 0) {
+                return targets[state][edge];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+}
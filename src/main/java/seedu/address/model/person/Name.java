@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,8 @@ public class Name {
 
     public final String fullName;
 
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        sortKey = name.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -38,6 +43,13 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the name in lower case, which orders names alphabetically regardless of case.
+     * It is computed once when the name is constructed, so that sorting does not convert names on every comparison.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
 
     @Override
     public String toString() {
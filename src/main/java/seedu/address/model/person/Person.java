@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -17,6 +18,13 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Person ids should be non-negative integers";
+
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    // Internal id, kept by every edited copy of this person
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -29,7 +37,15 @@ public class Person {
     private final AttendMap attendMap;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Derived fields, read by every sort and person card
+    private final Grade overallGrade;
+    private final float attendanceRate;
+    private String formattedGrades;
+    private String overallAttendance;
+    private String formattedAttendance;
+
     /**
+     * Creates a new person with an id no other person has.
      * Every field must be present and not null.
      */
     public Person(Name name,
@@ -40,7 +56,29 @@ public class Person {
                   GradeMap gradeMap,
                  AttendMap attendMap,
                   Set<Tag> tags) {
+        this(NEXT_ID.getAndIncrement(), name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, such as an edited copy of an existing person or one read from
+     * storage. Persons created afterwards are given larger ids.
+     * Every field must be present and not null.
+     */
+    public Person(long id,
+                  Name name,
+                  Phone phone,
+                  Email email,
+                  TeleHandle teleHandle,
+                  TutorialGroup tutorialGroup,
+                  GradeMap gradeMap,
+                  AttendMap attendMap,
+                  Set<Tag> tags) {
         requireAllNonNull(name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+        if (!isValidId(id)) {
+            throw new IllegalArgumentException(MESSAGE_ID_CONSTRAINTS);
+        }
+        NEXT_ID.accumulateAndGet(id + 1, Math::max);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -49,6 +87,23 @@ public class Person {
         this.gradeMap = gradeMap;
         this.attendMap = attendMap;
         this.tags.addAll(tags);
+        this.overallGrade = gradeMap.getOverallGrade();
+        this.attendanceRate = attendMap.getAttendanceRate();
+    }
+
+    /**
+     * Returns true if {@code id} can be the id of a person.
+     */
+    public static boolean isValidId(long id) {
+        return id >= 0 && id < Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the internal id of this person, which is shared by its edited copies but not shown to users.
+     * It plays no part in {@link #equals(Object)} or {@link #isSamePerson(Person)}.
+     */
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -76,11 +131,17 @@ public class Person {
     }
 
     public Grade getOverallGrade() {
-        return gradeMap.getOverallGrade();
+        return overallGrade;
     }
 
+    /**
+     * Returns the grades formatted for display, formatting them on the first call.
+     */
     public String getFormattedGrades() {
-        return gradeMap.formatGrades();
+        if (formattedGrades == null) {
+            formattedGrades = gradeMap.formatGrades();
+        }
+        return formattedGrades;
     }
 
     public AttendMap getAttendMap() {
@@ -91,12 +152,28 @@ public class Person {
         return attendMap.toStringMap();
     }
 
+    /**
+     * Returns the overall attendance formatted for display, formatting it on the first call.
+     */
     public String getOverallAttendance() {
-        return attendMap.getOverallAttendance();
+        if (overallAttendance == null) {
+            overallAttendance = attendMap.getOverallAttendance();
+        }
+        return overallAttendance;
+    }
+
+    public float getAttendanceRate() {
+        return attendanceRate;
     }
 
+    /**
+     * Returns the attendance formatted for display, formatting it on the first call.
+     */
     public String getFormattedAttendance() {
-        return attendMap.formatAttendance();
+        if (formattedAttendance == null) {
+            formattedAttendance = attendMap.formatAttendance();
+        }
+        return formattedAttendance;
     }
 
     /**
@@ -129,7 +206,7 @@ public class Person {
     }
 
     public Float getAssignmentScore(Assignments assignmentId) {
-        return gradeMap.get(assignmentId).valueFloat;
+        return gradeMap.getValue(assignmentId);
     }
 
     /**
@@ -1,22 +1,41 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s fields contain any of the keywords given.
+ * Tests that a {@code Person}'s fields contain any of the keywords given, that any of the grade ranges given
+ * contains the person's grade, or that the person's attendance satisfies any of the attendance queries given.
  */
 public class PersonContainsKeywords implements Predicate<Person> {
+    private static final Pattern TUTORIAL_GROUP_KEYWORD = Pattern.compile("TG(\\d{2})", Pattern.CASE_INSENSITIVE);
+
     private final List<String> nameKeywords;
     private final List<String> emailKeywords;
     private final List<String> teleHandleKeywords;
     private final List<String> tutorialGroupKeywords;
+    private final List<GradeRange> gradeRanges;
+    private final List<AttendanceQuery> attendanceQueries;
+
+    private final KeywordMatcher nameMatcher;
+    private final KeywordMatcher emailMatcher;
+    private final KeywordMatcher teleHandleMatcher;
+    private final KeywordMatcher tutorialGroupMatcher;
 
     /**
      * Constructs a {@code PersonContainsKeywords} predicate.
+     * The keywords of each field are compiled into a {@link KeywordMatcher} here, so that testing a person scans
+     * each field once without allocating.
      *
      * @param nameKeywords List of keywords to search in the name field.
      * @param emailKeywords List of keywords to search in the email field.
@@ -25,48 +44,121 @@ public class PersonContainsKeywords implements Predicate<Person> {
      */
     public PersonContainsKeywords(List<String> nameKeywords, List<String> emailKeywords,
                                  List<String> teleHandleKeywords, List<String> tutorialGroupKeywords) {
+        this(nameKeywords, emailKeywords, teleHandleKeywords, tutorialGroupKeywords, List.of(), List.of());
+    }
+
+    /**
+     * Constructs a {@code PersonContainsKeywords} predicate that also matches persons whose grade lies in any of
+     * {@code gradeRanges}.
+     */
+    public PersonContainsKeywords(List<String> nameKeywords, List<String> emailKeywords,
+                                 List<String> teleHandleKeywords, List<String> tutorialGroupKeywords,
+                                 List<GradeRange> gradeRanges) {
+        this(nameKeywords, emailKeywords, teleHandleKeywords, tutorialGroupKeywords, gradeRanges, List.of());
+    }
+
+    /**
+     * Constructs a {@code PersonContainsKeywords} predicate that also matches persons whose grade lies in any of
+     * {@code gradeRanges} or whose attendance satisfies any of {@code attendanceQueries}.
+     */
+    public PersonContainsKeywords(List<String> nameKeywords, List<String> emailKeywords,
+                                 List<String> teleHandleKeywords, List<String> tutorialGroupKeywords,
+                                 List<GradeRange> gradeRanges, List<AttendanceQuery> attendanceQueries) {
+        requireNonNull(gradeRanges);
+        requireNonNull(attendanceQueries);
         this.nameKeywords = nameKeywords;
         this.emailKeywords = emailKeywords;
         this.teleHandleKeywords = teleHandleKeywords;
         this.tutorialGroupKeywords = tutorialGroupKeywords;
+        this.gradeRanges = gradeRanges;
+        this.attendanceQueries = attendanceQueries;
+        nameMatcher = compile(nameKeywords);
+        emailMatcher = compile(emailKeywords);
+        teleHandleMatcher = compile(teleHandleKeywords);
+        tutorialGroupMatcher = compile(tutorialGroupKeywords);
     }
 
     @Override
     public boolean test(Person person) {
-        boolean matchesName = anyContainsIgnoreCase(
-                valueOrEmpty(person.getName() == null ? null : person.getName().fullName),
-                nameKeywords);
-
-        boolean matchesEmail = anyContainsIgnoreCase(
-                valueOrEmpty(person.getEmail() == null ? null : person.getEmail().value),
-                emailKeywords);
-
-        boolean matchesTeleHandle = anyContainsIgnoreCase(
-                valueOrEmpty(person.getTeleHandle() == null ? null : person.getTeleHandle().value),
-                teleHandleKeywords);
+        return nameMatcher.isFoundIn(person.getName() == null ? "" : person.getName().fullName)
+                || emailMatcher.isFoundIn(person.getEmail() == null ? "" : person.getEmail().value)
+                || teleHandleMatcher.isFoundIn(person.getTeleHandle() == null ? "" : person.getTeleHandle().value)
+                || tutorialGroupMatcher.isFoundIn(
+                        person.getTutorialGroup() == null ? "" : person.getTutorialGroup().toString())
+                || isInAnyGradeRange(person)
+                || satisfiesAnyAttendanceQuery(person);
+    }
 
-        boolean matchesTutorialGroup = anyContainsIgnoreCase(
-                valueOrEmpty(person.getTutorialGroup() == null ? null : person.getTutorialGroup().toString()),
-                tutorialGroupKeywords);
+    private boolean isInAnyGradeRange(Person person) {
+        for (GradeRange range : gradeRanges) {
+            if (range.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return matchesName || matchesEmail || matchesTeleHandle || matchesTutorialGroup;
+    private boolean satisfiesAnyAttendanceQuery(Person person) {
+        for (AttendanceQuery query : attendanceQueries) {
+            if (query.test(person)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    // Helper method to convert null to empty string
-    private static String valueOrEmpty(String value) {
-        return value == null ? "" : value;
+    // Helper method to compile keywords into a matcher, treating null as no keywords
+    private static KeywordMatcher compile(List<String> keywords) {
+        return new KeywordMatcher(keywords == null ? List.of() : keywords);
     }
 
-    // Helper method to check if any keyword is contained in the field value (case-insensitive)
-    private static boolean anyContainsIgnoreCase(String fieldValue, List<String> keywords) {
-        if (keywords == null || keywords.isEmpty()) {
-            return false;
+    /**
+     * Returns the persons in the indexes that may satisfy this predicate, or null if the indexes cannot narrow them
+     * down, which is the case when a keyword is shorter than a trigram or a tutorial group keyword is not a whole
+     * tutorial group.
+     */
+    Set<Person> findCandidates(TrigramIndex trigramIndex, TutorialGroupIndex tutorialGroupIndex,
+                               GradeIndex gradeIndex, AttendanceIndex attendanceIndex) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!addCandidates(candidates, trigramIndex, TrigramIndex.Field.NAME, nameKeywords)
+                || !addCandidates(candidates, trigramIndex, TrigramIndex.Field.EMAIL, emailKeywords)
+                || !addCandidates(candidates, trigramIndex, TrigramIndex.Field.TELE_HANDLE, teleHandleKeywords)) {
+            return null;
+        }
+        for (GradeRange range : gradeRanges) {
+            candidates.addAll(gradeIndex.findInRange(range));
         }
+        for (AttendanceQuery query : attendanceQueries) {
+            candidates.addAll(attendanceIndex.getPersons(query.evaluate(attendanceIndex)));
+        }
+        if (tutorialGroupKeywords == null) {
+            return candidates;
+        }
+        for (String keyword : tutorialGroupKeywords) {
+            // a valid tutorial group only contains a keyword of its own length if they are the same group
+            Matcher groupMatcher = TUTORIAL_GROUP_KEYWORD.matcher(keyword);
+            if (!groupMatcher.matches()) {
+                return null;
+            }
+            candidates.addAll(tutorialGroupIndex.getMembers(Integer.parseInt(groupMatcher.group(1))));
+        }
+        return candidates;
+    }
 
-        String lower = fieldValue.toLowerCase();
-        return keywords.stream()
-            .map(String::toLowerCase)
-            .anyMatch(lower::contains);
+    // Helper method to add the candidates for each keyword of a field, returning false if any cannot be looked up
+    private static boolean addCandidates(Set<Person> candidates, TrigramIndex index, TrigramIndex.Field field,
+                                         List<String> keywords) {
+        if (keywords == null) {
+            return true;
+        }
+        for (String keyword : keywords) {
+            List<Person> found = index.findCandidates(field, keyword);
+            if (found == null) {
+                return false;
+            }
+            candidates.addAll(found);
+        }
+        return true;
     }
 
     @Override
@@ -83,7 +175,9 @@ public class PersonContainsKeywords implements Predicate<Person> {
         return Objects.equals(nameKeywords, otherPredicate.nameKeywords)
             && Objects.equals(emailKeywords, otherPredicate.emailKeywords)
             && Objects.equals(teleHandleKeywords, otherPredicate.teleHandleKeywords)
-            && Objects.equals(tutorialGroupKeywords, otherPredicate.tutorialGroupKeywords);
+            && Objects.equals(tutorialGroupKeywords, otherPredicate.tutorialGroupKeywords)
+            && gradeRanges.equals(otherPredicate.gradeRanges)
+            && attendanceQueries.equals(otherPredicate.attendanceQueries);
     }
 
     @Override
@@ -93,6 +187,8 @@ public class PersonContainsKeywords implements Predicate<Person> {
             .add("emailKeywords", emailKeywords)
             .add("teleHandleKeywords", teleHandleKeywords)
             .add("tutorialGroupKeywords", tutorialGroupKeywords)
+            .add("gradeRanges", gradeRanges)
+            .add("attendanceQueries", attendanceQueries)
             .toString();
     }
 
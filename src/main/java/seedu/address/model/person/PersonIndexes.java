@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The indexes kept over the persons of a {@link UniquePersonList}, from which searches find the persons that may
+ * match without testing every person.
+ * <p>
+ * A search is answered as a predicate for the displayed list. The persons indexed when it was made are answered from
+ * the matches found then; persons added afterwards, such as edited persons or persons restored by undo, are tested
+ * directly. Each addition is stamped so that the two can be told apart.
+ */
+class PersonIndexes {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private final TutorialGroupIndex tutorialGroupIndex = new TutorialGroupIndex();
+    private final GradeIndex gradeIndex = new GradeIndex();
+    private final AttendanceIndex attendanceIndex = new AttendanceIndex();
+    private final Map<Person, Long> addedAt = new IdentityHashMap<>();
+    private long stamp;
+
+    /**
+     * Adds {@code person} to every index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        trigramIndex.add(person);
+        tutorialGroupIndex.add(person);
+        gradeIndex.add(person);
+        attendanceIndex.add(person);
+        addedAt.put(person, ++stamp);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from every index.
+     */
+    void remove(Person person) {
+        if (addedAt.remove(person) == null) {
+            return;
+        }
+        trigramIndex.remove(person);
+        tutorialGroupIndex.remove(person);
+        gradeIndex.remove(person);
+        attendanceIndex.remove(person);
+    }
+
+    /**
+     * Removes every person from the indexes.
+     */
+    void clear() {
+        trigramIndex.clear();
+        tutorialGroupIndex.clear();
+        gradeIndex.clear();
+        attendanceIndex.clear();
+        addedAt.clear();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that tests only the candidates the indexes yield for it.
+     * If the indexes cannot narrow down the persons that may match, {@code predicate} is returned.
+     */
+    Predicate<Person> narrow(PersonContainsKeywords predicate) {
+        requireNonNull(predicate);
+        Set<Person> candidates = predicate.findCandidates(trigramIndex, tutorialGroupIndex, gradeIndex,
+                attendanceIndex);
+        if (candidates == null) {
+            return predicate;
+        }
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return new NarrowedPredicate(predicate, matches, stamp);
+    }
+
+    /**
+     * Returns true if {@code person} was added at or before {@code asOf} and has not been removed since.
+     */
+    private boolean isIndexedSince(Person person, long asOf) {
+        Long stampAdded = addedAt.get(person);
+        return stampAdded != null && stampAdded <= asOf;
+    }
+
+    /**
+     * A predicate that answers for the persons indexed when it was created from the matches found then.
+     */
+    private final class NarrowedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Set<Person> matches;
+        private final long createdAt;
+
+        NarrowedPredicate(Predicate<Person> predicate, Set<Person> matches, long createdAt) {
+            this.predicate = predicate;
+            this.matches = matches;
+            this.createdAt = createdAt;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (isIndexedSince(person, createdAt)) {
+                return matches.contains(person);
+            }
+            return predicate.test(person);
+        }
+    }
+}
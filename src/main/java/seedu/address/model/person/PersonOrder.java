@@ -0,0 +1,160 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An order of persons by one or more keys, each ascending or descending, in which later keys break ties in earlier
+ * ones. Persons equal in every key are ordered by {@link Person#getId() id}, which follows the order they were added
+ * in, so ties are broken the same way however the list being sorted was built.
+ * <p>
+ * Besides comparing two persons, it sorts a whole list with {@link #sort(List)}, which first copies each person's keys
+ * into an array per key. The sort then compares the values in those arrays instead of reading them through every
+ * person it visits, and runs in parallel from {@link #PARALLEL_SORT_THRESHOLD} persons.
+ */
+public class PersonOrder implements Comparator<Person> {
+
+    /**
+     * The number of persons from which {@link #sort(List)} splits the sort across threads. Below it, the cost of
+     * forking outweighs the comparisons saved.
+     */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /**
+     * A key persons can be ordered by.
+     */
+    public enum Key {
+        NAME, TUTORIAL_GROUP, OVERALL_GRADE, ATTENDANCE_RATE
+    }
+
+    private final Key[] keys;
+    private final boolean[] isDescending;
+
+    private PersonOrder(Key[] keys, boolean[] isDescending) {
+        this.keys = keys;
+        this.isDescending = isDescending;
+    }
+
+    /**
+     * Returns the order of persons by {@code key}, in descending order if {@code isDescending}.
+     */
+    public static PersonOrder by(Key key, boolean isDescending) {
+        requireNonNull(key);
+        return new PersonOrder(new Key[] {key}, new boolean[] {isDescending});
+    }
+
+    /**
+     * Returns this order with ties broken by {@code key}, in descending order if {@code isDescending}.
+     */
+    public PersonOrder thenBy(Key key, boolean isDescending) {
+        requireNonNull(key);
+        Key[] extendedKeys = Arrays.copyOf(keys, keys.length + 1);
+        extendedKeys[keys.length] = key;
+        boolean[] extendedIsDescending = Arrays.copyOf(this.isDescending, keys.length + 1);
+        extendedIsDescending[keys.length] = isDescending;
+        return new PersonOrder(extendedKeys, extendedIsDescending);
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        for (int k = 0; k < keys.length; k++) {
+            int result = keys[k] == Key.NAME
+                    ? first.getName().getSortKey().compareTo(second.getName().getSortKey())
+                    : Double.compare(getNumericKey(keys[k], first), getNumericKey(keys[k], second));
+            if (result != 0) {
+                return isDescending[k] ? -result : result;
+            }
+        }
+        return Long.compare(first.getId(), second.getId());
+    }
+
+    /**
+     * Returns the indexes of {@code persons} in this order, so that the i-th element is the index in {@code persons}
+     * of the i-th person in order.
+     */
+    public int[] sort(List<? extends Person> persons) {
+        int size = persons.size();
+        // one array of values per key, names as strings and the other keys as numbers
+        String[][] textKeys = new String[keys.length][];
+        double[][] numericKeys = new double[keys.length][];
+        for (int k = 0; k < keys.length; k++) {
+            if (keys[k] == Key.NAME) {
+                textKeys[k] = new String[size];
+            } else {
+                numericKeys[k] = new double[size];
+            }
+        }
+        long[] ids = new long[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            Person person = persons.get(i);
+            for (int k = 0; k < keys.length; k++) {
+                if (keys[k] == Key.NAME) {
+                    textKeys[k][i] = person.getName().getSortKey();
+                } else {
+                    numericKeys[k][i] = getNumericKey(keys[k], person);
+                }
+            }
+            ids[i] = person.getId();
+            order[i] = i;
+        }
+
+        Comparator<Integer> byKeys = (i, j) -> {
+            for (int k = 0; k < keys.length; k++) {
+                int result = keys[k] == Key.NAME
+                        ? textKeys[k][i].compareTo(textKeys[k][j])
+                        : Double.compare(numericKeys[k][i], numericKeys[k][j]);
+                if (result != 0) {
+                    return isDescending[k] ? -result : result;
+                }
+            }
+            return Long.compare(ids[i], ids[j]);
+        };
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(order, byKeys);
+        } else {
+            Arrays.sort(order, byKeys);
+        }
+
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = order[i];
+        }
+        return sorted;
+    }
+
+    // Returns the value of a key other than the name, which orders persons as that key does
+    private static double getNumericKey(Key key, Person person) {
+        switch (key) {
+        case TUTORIAL_GROUP:
+            return person.getTutorialGroup().getTutorialGroupNumber();
+        case OVERALL_GRADE:
+            return person.getOverallGrade().valueFloat;
+        default:
+            return person.getAttendanceRate();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonOrder)) {
+            return false;
+        }
+
+        PersonOrder otherOrder = (PersonOrder) other;
+        return Arrays.equals(keys, otherOrder.keys) && Arrays.equals(isDescending, otherOrder.isDescending);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(keys) + Arrays.hashCode(isDescending);
+    }
+}
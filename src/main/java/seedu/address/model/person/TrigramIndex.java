@@ -0,0 +1,185 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams (runs of three characters) in each person's name, email and Telegram handle to the
+ * persons whose field contains them, compared after {@link KeywordMatcher#fold(char) case folding}.
+ * <p>
+ * A keyword can only be contained in a field that contains every trigram of the keyword, so the persons listed under
+ * all of them are the only candidates that need to be tested. Each person is given a slot, and the postings list
+ * slots. Removing a person only frees its slot; the entries left behind for it are skipped when the postings are
+ * read, and are dropped when the index is rebuilt after as many persons have been removed as are indexed.
+ */
+class TrigramIndex {
+
+    /**
+     * The fields that are indexed.
+     */
+    enum Field {
+        NAME, EMAIL, TELE_HANDLE
+    }
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private Person[] persons = new Person[INITIAL_CAPACITY];
+    private int slotCount;
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the index.
+     */
+    void remove(Person person) {
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        persons[slot] = null;
+        if (slotCount - slots.size() > Math.max(slots.size(), INITIAL_CAPACITY)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        postings.clear();
+        slots.clear();
+        persons = new Person[INITIAL_CAPACITY];
+        slotCount = 0;
+    }
+
+    /**
+     * Returns the indexed persons whose {@code field} may contain {@code keyword}, ignoring case, or null if the
+     * keyword is too short to be looked up.
+     */
+    List<Person> findCandidates(Field field, String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        Set<Long> keys = new HashSet<>();
+        addTrigramKeys(keys, field, keyword);
+        List<Postings> lists = new ArrayList<>();
+        for (long key : keys) {
+            Postings list = postings.get(key);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+
+        // intersect from the shortest list, so that each step can only keep fewer slots
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        BitSet candidateSlots = lists.get(0).toBitSet();
+        for (Postings list : lists.subList(1, lists.size())) {
+            if (candidateSlots.isEmpty()) {
+                break;
+            }
+            BitSet retained = new BitSet();
+            for (int i = 0; i < list.size; i++) {
+                if (candidateSlots.get(list.slots[i])) {
+                    retained.set(list.slots[i]);
+                }
+            }
+            candidateSlots = retained;
+        }
+
+        List<Person> candidates = new ArrayList<>(candidateSlots.cardinality());
+        for (int slot = candidateSlots.nextSetBit(0); slot >= 0; slot = candidateSlots.nextSetBit(slot + 1)) {
+            if (persons[slot] != null) {
+                candidates.add(persons[slot]);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        if (slotCount == persons.length) {
+            persons = Arrays.copyOf(persons, slotCount * 2);
+        }
+        int slot = slotCount++;
+        persons[slot] = person;
+        slots.put(person, slot);
+
+        Set<Long> keys = new HashSet<>();
+        addTrigramKeys(keys, Field.NAME, person.getName().fullName);
+        addTrigramKeys(keys, Field.EMAIL, person.getEmail().value);
+        addTrigramKeys(keys, Field.TELE_HANDLE, person.getTeleHandle().value);
+        for (long key : keys) {
+            postings.computeIfAbsent(key, unused -> new Postings()).add(slot);
+        }
+    }
+
+    /**
+     * Re-adds the persons still indexed into consecutive slots, dropping the entries of removed persons.
+     */
+    private void rebuild() {
+        Person[] oldPersons = persons;
+        int oldSlotCount = slotCount;
+        clear();
+        for (int slot = 0; slot < oldSlotCount; slot++) {
+            if (oldPersons[slot] != null) {
+                add(oldPersons[slot]);
+            }
+        }
+    }
+
+    private static void addTrigramKeys(Set<Long> keys, Field field, String value) {
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            keys.add(trigramKey(field, value, i));
+        }
+    }
+
+    /**
+     * Packs the field and the three folded characters of {@code text} from {@code start} into one key.
+     */
+    private static long trigramKey(Field field, String text, int start) {
+        return (long) field.ordinal() << 48
+                | (long) KeywordMatcher.fold(text.charAt(start)) << 32
+                | (long) KeywordMatcher.fold(text.charAt(start + 1)) << 16
+                | KeywordMatcher.fold(text.charAt(start + 2));
+    }
+
+    /**
+     * The slots of the persons whose field contains one trigram.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        BitSet toBitSet() {
+            BitSet bits = new BitSet();
+            for (int i = 0; i < size; i++) {
+                bits.set(slots[i]);
+            }
+            return bits;
+        }
+    }
+}
@@ -17,6 +17,8 @@ public class TutorialGroup {
 
     public final String value;
 
+    private final int number;
+
     /**
      * Constructs a {@code Tutorial}.
      *
@@ -26,17 +28,18 @@ public class TutorialGroup {
         requireNonNull(tutorialGroup);
         checkArgument(isValidTutorialGroup(tutorialGroup), MESSAGE_CONSTRAINTS);
         value = tutorialGroup;
+        number = tutorialGroup.isEmpty() ? -1 : Integer.parseInt(tutorialGroup.substring(2));
     }
 
     public static boolean isValidTutorialGroup(String test) {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the number after "TG", or -1 if no tutorial group is assigned.
+     */
     public int getTutorialGroupNumber() {
-        if (value.isEmpty()) {
-            return -1; // Indicate no tutorial group assigned
-        }
-        return Integer.parseInt(value.substring(2)); // Extract number after "TG"
+        return number;
     }
 
     @Override
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A partition of persons by the number of their tutorial group, so that the members of a group can be read without
+ * looking at the rest of the cohort.
+ */
+class TutorialGroupIndex {
+
+    private final Map<Integer, Set<Person>> members = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the members of its tutorial group.
+     */
+    void add(Person person) {
+        members.computeIfAbsent(person.getTutorialGroup().getTutorialGroupNumber(),
+                unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the members of its group.
+     */
+    void remove(Person person) {
+        int number = person.getTutorialGroup().getTutorialGroupNumber();
+        Set<Person> groupMembers = members.get(number);
+        if (groupMembers != null && groupMembers.remove(person) && groupMembers.isEmpty()) {
+            members.remove(number);
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        members.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the tutorial group numbered {@code number}.
+     */
+    Set<Person> getMembers(int number) {
+        Set<Person> groupMembers = members.get(number);
+        return groupMembers == null ? Set.of() : Collections.unmodifiableSet(groupMembers);
+    }
+}
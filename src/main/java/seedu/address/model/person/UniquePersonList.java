@@ -3,10 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -19,21 +29,33 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Identity checks are answered from an index keyed by each person's normalized email, which is kept in sync with the
+ * backing list, so that {@link #contains(Person)} does not need to scan the whole list. Persons are located for
+ * replacement and removal through a second index from their {@link Person#getId() id} to their position. A removal
+ * only marks the positions after it as stale, and they are renumbered together at the next lookup that needs them.
+ * {@link PersonIndexes} over the persons' names, emails, Telegram handles, tutorial groups, grades and attendance let
+ * searches test only the persons that may match.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final InternalList internalList = new InternalList();
     private final ObservableList<Person> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> identityIndex = new HashMap<>();
+    private final Map<Long, Integer> positionIndex = new HashMap<>();
+    // Positions in positionIndex from this one onwards may be out of date
+    private int stalePositionsFrom;
+    private final PersonIndexes indexes = new PersonIndexes();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(identityKeyOf(toCheck));
     }
 
     /**
@@ -46,6 +68,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(identityKeyOf(toAdd), toAdd);
+        indexes.add(toAdd);
+        if (stalePositionsFrom == internalList.size() - 1) {
+            positionIndex.put(toAdd.getId(), stalePositionsFrom++);
+        }
     }
 
     /**
@@ -56,7 +83,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +92,73 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        identityIndex.remove(identityKeyOf(target));
+        identityIndex.put(identityKeyOf(editedPerson), editedPerson);
+        indexes.remove(replaced);
+        indexes.add(editedPerson);
+        if (editedPerson.getId() != target.getId()) {
+            positionIndex.remove(target.getId(), index);
+            positionIndex.put(editedPerson.getId(), index);
+        }
+    }
+
+    /**
+     * Replaces each person in the keys of {@code edits} with the person it maps to, as a single change to the list.
+     * Every key must exist in the list. The identities of the edited persons must be unique among themselves and
+     * among the persons left unedited. All edits are checked before any is applied, so if one is invalid the list is
+     * left unchanged.
+     */
+    public void setPersons(Map<Person, Person> edits) {
+        requireNonNull(edits);
+
+        int[] positions = new int[edits.size()];
+        Person[] targets = new Person[edits.size()];
+        Person[] editedPersons = new Person[edits.size()];
+        Set<String> releasedIdentities = new HashSet<>();
+        int count = 0;
+        for (Map.Entry<Person, Person> edit : edits.entrySet()) {
+            requireAllNonNull(edit.getKey(), edit.getValue());
+            int position = positionOf(edit.getKey());
+            if (position == -1) {
+                throw new PersonNotFoundException();
+            }
+            positions[count] = position;
+            targets[count] = edit.getKey();
+            editedPersons[count] = edit.getValue();
+            releasedIdentities.add(identityKeyOf(edit.getKey()));
+            count++;
+        }
+
+        Set<String> claimedIdentities = new HashSet<>();
+        for (Person editedPerson : editedPersons) {
+            String identity = identityKeyOf(editedPerson);
+            boolean isHeldByUneditedPerson = identityIndex.containsKey(identity)
+                    && !releasedIdentities.contains(identity);
+            if (!claimedIdentities.add(identity) || isHeldByUneditedPerson) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        Person[] replaced = new Person[count];
+        for (int i = 0; i < count; i++) {
+            replaced[i] = internalList.get(positions[i]);
+        }
+        internalList.setAll(positions, editedPersons);
+        for (int i = 0; i < count; i++) {
+            identityIndex.remove(identityKeyOf(targets[i]));
+            indexes.remove(replaced[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            identityIndex.put(identityKeyOf(editedPersons[i]), editedPersons[i]);
+            if (editedPersons[i].getId() != targets[i].getId()) {
+                positionIndex.remove(targets[i].getId(), positions[i]);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            positionIndex.put(editedPersons[i].getId(), positions[i]);
+            indexes.add(editedPersons[i]);
+        }
     }
 
     /**
@@ -74,14 +167,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        identityIndex.remove(identityKeyOf(toRemove));
+        indexes.remove(removed);
+        positionIndex.remove(toRemove.getId(), index);
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        rebuildPositionIndex();
+        rebuildIndexes();
     }
 
     /**
@@ -95,6 +198,17 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIdentityIndex();
+        rebuildPositionIndex();
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered for the persons now in this list from the
+     * indexes, so that only the persons the indexes yield as candidates are tested.
+     */
+    public Predicate<Person> narrow(PersonContainsKeywords predicate) {
+        return indexes.narrow(predicate);
     }
 
     /**
@@ -134,17 +248,121 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the key under which {@code person} is stored in the identity index.
+     * Two persons have the same key if and only if they are the same person as defined by
+     * {@link Person#isSamePerson(Person)}.
+     */
+    private static String identityKeyOf(Person person) {
+        return person.getEmail().value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     * Persons that share an id, which only happens if the data file was edited by hand, are found by a scan.
+     */
+    private int positionOf(Person person) {
+        Integer position = positionIndex.get(person.getId());
+        if (position == null || position >= stalePositionsFrom) {
+            renumberStalePositions();
+            position = positionIndex.get(person.getId());
+        }
+        if (position != null && position < internalList.size() && internalList.get(position).equals(person)) {
+            return position;
+        }
+        return internalList.indexOf(person);
+    }
+
+    private void renumberStalePositions() {
+        for (int i = stalePositionsFrom; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getId(), i);
+        }
+        stalePositionsFrom = internalList.size();
+    }
+
+    private void rebuildPositionIndex() {
+        positionIndex.clear();
+        stalePositionsFrom = 0;
+        renumberStalePositions();
+    }
+
+    private void rebuildIndexes() {
+        indexes.clear();
+        for (Person person : internalList) {
+            indexes.add(person);
+        }
+    }
+
+    private void rebuildIdentityIndex() {
+        identityIndex.clear();
+        for (Person person : internalList) {
+            identityIndex.put(identityKeyOf(person), person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> seenIdentities = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenIdentities.add(identityKeyOf(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The backing list of persons, which can also replace persons at scattered positions, and reorder all of them,
+     * in a single change to its listeners.
+     */
+    private static class InternalList extends ModifiableObservableListBase<Person> {
+        private final ArrayList<Person> persons = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+
+        /**
+         * Replaces the person at each of {@code positions} with the person at the same index of {@code replacements}.
+         */
+        void setAll(int[] positions, Person[] replacements) {
+            Integer[] order = new Integer[positions.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> positions[i]));
+
+            beginChange();
+            try {
+                for (int i : order) {
+                    nextSet(positions[i], persons.set(positions[i], replacements[i]));
+                }
+            } finally {
+                endChange();
+            }
+        }
+    }
 }
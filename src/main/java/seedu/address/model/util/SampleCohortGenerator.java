@@ -0,0 +1,174 @@
+package seedu.address.model.util;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Assignments;
+import seedu.address.model.person.AttendMap;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TeleHandle;
+import seedu.address.model.person.TutorialClass;
+import seedu.address.model.person.TutorialGroup;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates a cohort of valid students of any size, for reproducing behaviour at realistic course sizes.
+ * <p>
+ * The cohort looks like a course part-way through the semester: students are spread unevenly over tutorial groups
+ * of about {@link #AVERAGE_TUTORIAL_GROUP_SIZE}, only the tutorials and assignments held so far are filled in, some
+ * students miss tutorials or submissions, and the tags from {@link SampleDataUtil} follow their grades.
+ * Generators created with the same seed produce the same cohort.
+ */
+public class SampleCohortGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+
+    static final int AVERAGE_TUTORIAL_GROUP_SIZE = 12;
+    static final int MAX_TUTORIAL_GROUPS = 99;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Aisha", "Benjamin", "Chloe", "Daniel", "Emily",
+        "Farhan", "Grace", "Hui Min", "Isaac", "Jia Hui", "Kumar", "Li Ting", "Marcus", "Nur", "Priya", "Qi Xuan",
+        "Rachel", "Siddharth", "Tan Wei", "Vanessa", "Wei Jie", "Xin Yi", "Yusuf", "Zhi Hao"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh",
+        "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Rahman", "Singh", "Kumar", "Menon", "Abdullah", "Ho"
+    };
+
+    private static final String TAG_NEEDS_HELP = "Needs Help";
+    private static final String TAG_TOP_STUDENT = "Top Student";
+    private static final String TAG_HARDWORKING = "Hardworking Student";
+
+    private static final double MEAN_GRADE = 72;
+    private static final double GRADE_STANDARD_DEVIATION = 14;
+    private static final double MISSED_SUBMISSION_RATE = 0.08;
+    private static final double ABSENCE_RATE = 0.12;
+
+    private final long seed;
+
+    public SampleCohortGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns an address book of {@code personCount} generated students.
+     */
+    public ReadOnlyAddressBook generateAddressBook(int personCount) {
+        if (personCount < 0) {
+            throw new IllegalArgumentException("Cohort size cannot be negative: " + personCount);
+        }
+
+        Random random = new Random(seed);
+        int tutorialsHeld = 1 + random.nextInt(TutorialClass.values().length);
+        int assignmentsGraded = Math.min(tutorialsHeld - 1, Assignments.values().length - 1)
+                + (tutorialsHeld == TutorialClass.values().length ? 1 : 0);
+        double[] tutorialGroupWeights = generateTutorialGroupWeights(personCount, random);
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(generatePerson(i, random, tutorialGroupWeights, tutorialsHeld, assignmentsGraded));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the relative sizes of the tutorial groups for a cohort of {@code personCount}, which vary by up to
+     * a third either way as real groups do.
+     */
+    private static double[] generateTutorialGroupWeights(int personCount, Random random) {
+        int groupCount = Math.max(1, Math.min(MAX_TUTORIAL_GROUPS,
+                (personCount + AVERAGE_TUTORIAL_GROUP_SIZE - 1) / AVERAGE_TUTORIAL_GROUP_SIZE));
+        double[] weights = new double[groupCount];
+        for (int i = 0; i < groupCount; i++) {
+            weights[i] = 2.0 / 3 + random.nextDouble() * 2 / 3;
+        }
+        return weights;
+    }
+
+    private static Person generatePerson(int index, Random random, double[] tutorialGroupWeights, int tutorialsHeld,
+            int assignmentsGraded) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String studentNumber = String.format(Locale.ROOT, "%07d", index);
+
+        // each student has an ability around which all of their grades fall
+        double ability = MEAN_GRADE + random.nextGaussian() * GRADE_STANDARD_DEVIATION;
+        Map<Assignments, Grade> grades = new EnumMap<>(Assignments.class);
+        Assignments[] assignments = Assignments.values();
+        double gradeTotal = 0;
+        int gradedCount = 0;
+        for (int i = 0; i < assignmentsGraded; i++) {
+            if (random.nextDouble() < MISSED_SUBMISSION_RATE) {
+                continue;
+            }
+            int hundredths = (int) Math.round(clamp(ability + random.nextGaussian() * 8, 0, 100) * 100);
+            grades.put(assignments[i], Grade.fromHundredths(hundredths));
+            gradeTotal += hundredths / 100.0;
+            gradedCount++;
+        }
+
+        AttendMap attendMap = new AttendMap();
+        TutorialClass[] tutorialClasses = TutorialClass.values();
+        int attendedCount = 0;
+        for (int i = 0; i < tutorialsHeld; i++) {
+            if (random.nextDouble() >= ABSENCE_RATE) {
+                attendMap = attendMap.withPresent(tutorialClasses[i]);
+                attendedCount++;
+            }
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        double averageGrade = gradedCount == 0 ? ability : gradeTotal / gradedCount;
+        if (averageGrade < 50) {
+            tags.add(new Tag(TAG_NEEDS_HELP));
+        } else if (averageGrade >= 88) {
+            tags.add(new Tag(TAG_TOP_STUDENT));
+        }
+        if (attendedCount == tutorialsHeld && random.nextDouble() < 0.3) {
+            tags.add(new Tag(TAG_HARDWORKING));
+        }
+
+        String phone = (random.nextBoolean() ? "8" : "9")
+                + String.format(Locale.ROOT, "%07d", random.nextInt(10_000_000));
+        String tutorialGroup = String.format(Locale.ROOT, "TG%02d", 1 + pickWeighted(tutorialGroupWeights, random));
+        return new Person(new Name(firstName + " " + lastName),
+                new Phone(phone),
+                new Email("e" + studentNumber + "@u.nus.edu"),
+                new TeleHandle("@" + firstName.toLowerCase(Locale.ROOT).replace(" ", "") + studentNumber),
+                new TutorialGroup(tutorialGroup),
+                new GradeMap(grades),
+                attendMap,
+                tags);
+    }
+
+    private static int pickWeighted(double[] weights, Random random) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -69,6 +69,14 @@ public class SampleDataUtil {
         return sampleAb;
     }
 
+    /**
+     * Returns an address book of {@code personCount} students generated by a {@link SampleCohortGenerator}.
+     * The same {@code seed} always gives the same address book.
+     */
+    public static ReadOnlyAddressBook getSampleAddressBook(int personCount, long seed) {
+        return new SampleCohortGenerator(seed).generateAddressBook(personCount);
+    }
+
     /**
      * Returns a tag set containing the list of strings given.
      */
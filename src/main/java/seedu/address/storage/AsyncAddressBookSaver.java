@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves address books to an {@link AddressBookStorage} on a background thread.
+ * <p>
+ * Each save request takes a snapshot of the person list and returns immediately. Requests that arrive while an
+ * earlier one is still waiting to be written replace it, so a burst of commands results in a single write of the
+ * latest data. Failures are reported to the failure handler from the background thread.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor;
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = e -> { };
+
+    /**
+     * Creates an {@code AsyncAddressBookSaver} that writes to {@code storage}.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        this.storage = requireNonNull(storage);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler to be notified when a background save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved. Later changes to {@code addressBook} do not affect what is saved.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook.getPersonList());
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::savePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingSnapshot).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Unexpected error while flushing address book saves: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes any pending save and stops the background thread. No further saves can be requested afterwards.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for address book saver to stop");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void savePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An immutable copy of the person list of an address book at one point in time.
+     * Persons are immutable, so copying the list is enough.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(ObservableList<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Assignments;
+import seedu.address.model.person.AttendMap;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TeleHandle;
+import seedu.address.model.person.TutorialClass;
+import seedu.address.model.person.TutorialGroup;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary format on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and a format version, followed by the number of persons and then each person,
+ * starting with its id. Assignments and tutorial classes are identified by their ordinals, grades are stored as
+ * hundredths in a {@code short} and attendance as one bit per tutorial class.
+ * <p>
+ * The binary file is kept apart from the configured data file, under the same name with the extension
+ * {@link #BINARY_FILE_EXTENSION} in place of {@code .json}, so that a file named as JSON always holds JSON. Whichever
+ * of the two files was saved last is read, the JSON one together with the changes journaled by
+ * {@link JournalAddressBookStorage}, so switching between formats keeps the data. Each save removes the file in the
+ * other format, and its journal, once the new file is written.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    /**
+     * The first four bytes of every binary address book file, which never start a JSON file.
+     */
+    static final int MAGIC = 0x41424246;
+    static final short FORMAT_VERSION = 2;
+    // Version 1 files were written before persons had ids
+    static final short FORMAT_VERSION_WITHOUT_IDS = 1;
+
+    static final String MESSAGE_UNSUPPORTED_FORMAT = "Unsupported binary address book format: %s";
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final short UNSET_GRADE = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    // the configured data file, which holds the data instead if it was last saved in the JSON format
+    private Path jsonFilePath;
+
+    /**
+     * Creates a storage that saves to the binary file that goes with the data file at {@code dataFilePath}.
+     *
+     * @see #getBinaryFilePath(Path)
+     */
+    public BinaryAddressBookStorage(Path dataFilePath) {
+        this.filePath = getBinaryFilePath(dataFilePath);
+        this.jsonFilePath = dataFilePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file that goes with the data file at {@code dataFilePath}: the same name with
+     * {@link #BINARY_FILE_EXTENSION} in place of a {@code .json} extension, or appended to any other name.
+     */
+    public static Path getBinaryFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        if (fileName.endsWith(BINARY_FILE_EXTENSION)) {
+            return dataFilePath;
+        }
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return dataFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        // reads the binary file that goes with the JSON file instead if it was saved later
+        Path jsonFilePath = getJsonFilePath(filePath);
+        return new JournalAddressBookStorage(jsonFilePath).readAddressBook(jsonFilePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path jsonFilePath = getJsonFilePath(filePath);
+        FileUtil.writeToFile(getBinaryFilePath(filePath), out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            writeAddressBook(dataOut, addressBook);
+            dataOut.flush();
+        }, JsonAddressBookStorage.BACKUP_GENERATIONS);
+        // the JSON file and its journal hold data the binary file now replaces
+        if (!jsonFilePath.equals(getBinaryFilePath(filePath))) {
+            Files.deleteIfExists(jsonFilePath);
+        }
+        Files.deleteIfExists(JournalAddressBookStorage.getJournalFilePath(jsonFilePath));
+    }
+
+    /**
+     * Returns the JSON data file that {@code filePath} goes with, which is the configured data file if
+     * {@code filePath} is the binary file of this storage.
+     */
+    private Path getJsonFilePath(Path filePath) {
+        return filePath.equals(this.filePath) ? jsonFilePath : filePath;
+    }
+
+    /**
+     * Returns true if the binary file at {@code binaryFilePath} exists and was saved after the JSON file at
+     * {@code jsonFilePath} and its journal, or if those do not exist.
+     */
+    static boolean isSavedAfter(Path binaryFilePath, Path jsonFilePath) throws IOException {
+        if (binaryFilePath.equals(jsonFilePath) || !FileUtil.isFileExists(binaryFilePath)) {
+            return false;
+        }
+        FileTime savedTime = Files.getLastModifiedTime(binaryFilePath);
+        for (Path path : List.of(jsonFilePath, JournalAddressBookStorage.getJournalFilePath(jsonFilePath))) {
+            if (Files.exists(path) && Files.getLastModifiedTime(path).compareTo(savedTime) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the binary address book file at {@code filePath}.
+     *
+     * @throws DataLoadingException if the file could not be read or holds invalid data.
+     */
+    static ReadOnlyAddressBook readFile(Path filePath) throws DataLoadingException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return readAddressBook(new DataInputStream(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static void writeAddressBook(DataOutput out, ReadOnlyAddressBook addressBook) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeByte(Assignments.values().length);
+        out.writeByte(TutorialClass.values().length);
+        out.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(out, person);
+        }
+    }
+
+    private static ReadOnlyAddressBook readAddressBook(DataInput in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT, "not a binary address book"));
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_IDS) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT, "version " + version));
+        }
+        if (in.readUnsignedByte() != Assignments.values().length
+                || in.readUnsignedByte() != TutorialClass.values().length) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT,
+                    "different assignments or tutorial classes"));
+        }
+
+        int personCount = in.readInt();
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(in, version != FORMAT_VERSION_WITHOUT_IDS);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    private static void writePerson(DataOutput out, Person person) throws IOException {
+        out.writeLong(person.getId());
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getEmail().value);
+        out.writeUTF(person.getTeleHandle().value);
+        out.writeUTF(person.getTutorialGroup().value);
+
+        GradeMap gradeMap = person.getGradeMap();
+        for (Assignments assignment : Assignments.values()) {
+            out.writeShort(toFixedPoint(gradeMap.get(assignment)));
+        }
+
+        int attendance = 0;
+        for (TutorialClass tutorialClass : TutorialClass.values()) {
+            if (person.getAttendMap().isPresent(tutorialClass)) {
+                attendance |= 1 << tutorialClass.ordinal();
+            }
+        }
+        out.writeShort(attendance);
+
+        out.writeShort(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    private static Person readPerson(DataInput in, boolean hasId) throws IOException, IllegalValueException {
+        try {
+            long id = hasId ? in.readLong() : -1;
+            Name name = new Name(in.readUTF());
+            Phone phone = new Phone(in.readUTF());
+            Email email = new Email(in.readUTF());
+            TeleHandle teleHandle = new TeleHandle(in.readUTF());
+            TutorialGroup tutorialGroup = new TutorialGroup(in.readUTF());
+
+            Map<Assignments, Grade> grades = new EnumMap<>(Assignments.class);
+            for (Assignments assignment : Assignments.values()) {
+                grades.put(assignment, fromFixedPoint(in.readShort()));
+            }
+            GradeMap gradeMap = new GradeMap(grades);
+
+            int attendance = in.readUnsignedShort();
+            AttendMap attendMap = new AttendMap();
+            for (TutorialClass tutorialClass : TutorialClass.values()) {
+                if ((attendance & (1 << tutorialClass.ordinal())) != 0) {
+                    attendMap = attendMap.withPresent(tutorialClass);
+                }
+            }
+
+            int tagCount = in.readUnsignedShort();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(in.readUTF()));
+            }
+
+            if (!hasId) {
+                return new Person(name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+            }
+            return new Person(id, name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+        } catch (IllegalArgumentException e) {
+            // the model constructors reject invalid values with their constraint messages
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns {@code grade} in hundredths, or {@link #UNSET_GRADE} if it has not been set.
+     */
+    private static short toFixedPoint(Grade grade) {
+        return grade.isGraded() ? (short) grade.toHundredths() : UNSET_GRADE;
+    }
+
+    private static Grade fromFixedPoint(short hundredths) {
+        if (hundredths == UNSET_GRADE) {
+            return Grade.UNGRADED;
+        }
+        return Grade.fromHundredths(hundredths);
+    }
+
+}
@@ -0,0 +1,393 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * <p>
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. Each save appends only the
+ * persons that were added, replaced or removed since the previous save to a line-delimited journal file next to the
+ * snapshot. Once the journal grows too long, or the change cannot be described as a few positional edits (e.g. after
+ * a sort), the journal is compacted into a fresh snapshot.
+ * <p>
+ * The journal starts with the checksum of the snapshot it applies to, and is ignored if the snapshot no longer has that
+ * checksum. A journal left behind by a compaction that was interrupted after writing the snapshot, or by saving in
+ * another format, is therefore never replayed onto a snapshot that already holds its changes.
+ * <p>
+ * If the journal cannot be replayed, the snapshot alone is read; if the snapshot cannot be read either, the newest
+ * backup kept by compaction is read instead.
+ * <p>
+ * If the binary file that {@link BinaryAddressBookStorage} keeps next to the snapshot was saved after the snapshot and
+ * journal, it is read instead, and the next save replaces it with a fresh snapshot.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /**
+     * The journal is always allowed to hold at least this many records before it is compacted.
+     */
+    static final int MIN_COMPACTION_THRESHOLD = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private Path filePath;
+
+    // State of the data files as of the last successful read or save, used to work out what changed.
+    private Path lastSyncedFilePath;
+    private List<Person> lastSyncedPersons;
+    private int journalRecordCount;
+    // checksum of the snapshot at lastSyncedFilePath, or null if it has not been computed since it was read
+    private Long lastSyncedChecksum;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal file that accompanies the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(filePath);
+        try {
+            if (BinaryAddressBookStorage.isSavedAfter(binaryFilePath, filePath)) {
+                // converted to json by compacting on the next save, which removes the binary file
+                lastSyncedFilePath = null;
+                return JsonAddressBookStorage.readWithBackups(binaryFilePath);
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            return readSnapshotAndJournal(filePath);
+        } catch (DataLoadingException e) {
+            Optional<ReadOnlyAddressBook> recovered = recoverWithoutJournal(filePath);
+            if (!recovered.isPresent()) {
+                throw e;
+            }
+            logger.warning("Changes journaled since the last snapshot of " + filePath + " could not be recovered");
+            // forces the next save to write a fresh snapshot and discard the unusable journal
+            lastSyncedFilePath = null;
+            return recovered;
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> recoverWithoutJournal(Path filePath) {
+        try {
+            Optional<ReadOnlyAddressBook> snapshot = JsonAddressBookStorage.readSingleFile(filePath);
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Snapshot " + filePath + " could not be loaded");
+        }
+        return JsonAddressBookStorage.readNewestBackup(filePath);
+    }
+
+    private Optional<ReadOnlyAddressBook> readSnapshotAndJournal(Path filePath) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        boolean isBinarySnapshot;
+        try {
+            isBinarySnapshot = FileUtil.isFileExists(filePath) && BinaryAddressBookStorage.isBinaryFile(filePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            List<Person> persons = new ArrayList<>();
+            Optional<ReadOnlyAddressBook> snapshot = JsonAddressBookStorage.readSingleFile(filePath);
+            if (snapshot.isPresent()) {
+                persons.addAll(snapshot.get().getPersonList());
+            }
+            boolean isJournalTerminated = isJournalTerminated(journalFilePath);
+            lastSyncedChecksum = null;
+            OptionalInt replayedRecords = replayJournal(journalFilePath, filePath, persons);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+
+            // a snapshot written by BinaryAddressBookStorage is converted to json by compacting on the next save, and
+            // a journal that cannot be appended to, such as one whose last line was cut short, is replaced instead
+            boolean isJournalAppendable = isJournalTerminated && replayedRecords.isPresent();
+            lastSyncedFilePath = isBinarySnapshot || !isJournalAppendable ? null : filePath;
+            lastSyncedPersons = new ArrayList<>(addressBook.getPersonList());
+            journalRecordCount = replayedRecords.orElse(0);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found after replaying " + journalFilePath);
+            throw new DataLoadingException(
+                new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    /**
+     * Returns true if the journal at {@code journalFilePath} is missing, empty or ends with a complete line, so that
+     * further records can be appended to it.
+     */
+    private static boolean isJournalTerminated(Path journalFilePath) throws DataLoadingException {
+        try (SeekableByteChannel channel = Files.newByteChannel(journalFilePath)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == '\n';
+        } catch (NoSuchFileException e) {
+            return true;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Applies every record in the journal at {@code journalFilePath} to {@code persons}, the content of the snapshot
+     * at {@code snapshotFilePath}, in order. A malformed final line is treated as an interrupted write and skipped.
+     * A journal whose header names another snapshot is not applied at all.
+     *
+     * @return the number of records applied, or {@code OptionalInt.empty()} if no further records may be appended to
+     *     the journal because it belongs to another snapshot or was written without a header.
+     */
+    private OptionalInt replayJournal(Path journalFilePath, Path snapshotFilePath, List<Person> persons)
+            throws DataLoadingException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return OptionalInt.of(0);
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        boolean hasHeader = false;
+        int appliedRecords = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in journal file " + journalFilePath);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+            if (!hasHeader && appliedRecords == 0 && record.getSnapshotChecksum() != null) {
+                if (!record.getSnapshotChecksum().equals(getChecksum(snapshotFilePath))) {
+                    logger.warning("Ignoring journal file " + journalFilePath + " written for another snapshot");
+                    return OptionalInt.empty();
+                }
+                hasHeader = true;
+                lastSyncedChecksum = record.getSnapshotChecksum();
+                continue;
+            }
+            record.applyTo(persons);
+            appliedRecords++;
+        }
+        return hasHeader ? OptionalInt.of(appliedRecords) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the checksum of the snapshot at {@code snapshotFilePath}, or null if there is no snapshot.
+     */
+    private static Long getChecksum(Path snapshotFilePath) throws DataLoadingException {
+        if (!FileUtil.isFileExists(snapshotFilePath)) {
+            return null;
+        }
+        try {
+            return FileUtil.getChecksum(snapshotFilePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> currentPersons = new ArrayList<>(addressBook.getPersonList());
+        if (!filePath.equals(lastSyncedFilePath) || !FileUtil.isFileExists(filePath)) {
+            compact(addressBook, filePath, currentPersons);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> changes = diff(lastSyncedPersons, currentPersons);
+        if (!changes.isPresent()
+                || journalRecordCount + changes.get().size() > getCompactionThreshold(currentPersons.size())) {
+            compact(addressBook, filePath, currentPersons);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            if (lastSyncedChecksum == null) {
+                lastSyncedChecksum = FileUtil.getChecksum(filePath);
+            }
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.snapshot(lastSyncedChecksum)))
+                    .append('\n');
+        }
+        for (JsonAdaptedJournalRecord record : changes.get()) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        FileUtil.appendToFile(journalFilePath, lines.toString());
+
+        lastSyncedPersons = currentPersons;
+        journalRecordCount += changes.get().size();
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot to {@code filePath} and discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath, List<Person> currentPersons)
+            throws IOException {
+        logger.fine("Compacting address book journal into snapshot " + filePath);
+        long checksum = JsonSerializableAddressBook.saveStreaming(addressBook, filePath,
+                JsonAddressBookStorage.BACKUP_GENERATIONS);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        // a binary file saved by BinaryAddressBookStorage holds data the snapshot now replaces
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(filePath);
+        if (!binaryFilePath.equals(filePath)) {
+            Files.deleteIfExists(binaryFilePath);
+        }
+
+        lastSyncedFilePath = filePath;
+        lastSyncedPersons = currentPersons;
+        journalRecordCount = 0;
+        lastSyncedChecksum = checksum;
+    }
+
+    private static int getCompactionThreshold(int personCount) {
+        return Math.max(MIN_COMPACTION_THRESHOLD, personCount);
+    }
+
+    /**
+     * Returns the records that turn {@code previous} into {@code current}, or {@code Optional.empty()} if the
+     * change is not a run of in-place replacements, a single contiguous insertion or a single contiguous removal.
+     * Persons are compared by reference, as any edit to a {@code Person} produces a new instance.
+     */
+    static Optional<List<JsonAdaptedJournalRecord>> diff(List<Person> previous, List<Person> current) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+
+        if (previous.size() == current.size()) {
+            Set<Person> previousPersons = null;
+            for (int i = 0; i < current.size(); i++) {
+                if (previous.get(i) == current.get(i)) {
+                    continue;
+                }
+                if (previousPersons == null) {
+                    previousPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+                    previousPersons.addAll(previous);
+                }
+                if (previousPersons.contains(current.get(i))) {
+                    // an unchanged person moved to another position, so the list was reordered
+                    return Optional.empty();
+                }
+                records.add(JsonAdaptedJournalRecord.set(i, current.get(i)));
+            }
+            return Optional.of(records);
+        }
+
+        int shorterSize = Math.min(previous.size(), current.size());
+        int commonPrefix = 0;
+        while (commonPrefix < shorterSize && previous.get(commonPrefix) == current.get(commonPrefix)) {
+            commonPrefix++;
+        }
+        int commonSuffix = 0;
+        while (commonPrefix + commonSuffix < shorterSize
+                && previous.get(previous.size() - 1 - commonSuffix) == current.get(current.size() - 1 - commonSuffix)) {
+            commonSuffix++;
+        }
+        if (commonPrefix + commonSuffix != shorterSize) {
+            return Optional.empty();
+        }
+
+        if (current.size() > previous.size()) {
+            for (int i = commonPrefix; i < current.size() - commonSuffix; i++) {
+                records.add(JsonAdaptedJournalRecord.add(i, current.get(i)));
+            }
+        } else {
+            for (int i = commonPrefix; i < previous.size() - commonSuffix; i++) {
+                records.add(JsonAdaptedJournalRecord.delete(commonPrefix));
+            }
+        }
+        return Optional.of(records);
+    }
+
+}
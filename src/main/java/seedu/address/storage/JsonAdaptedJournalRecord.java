@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change made to the person list of an address book, or of the header that
+ * names the snapshot a journal applies to.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    /**
+     * The kind of change recorded.
+     */
+    enum Operation {
+        ADD, SET, DELETE, SNAPSHOT
+    }
+
+    private final Operation op;
+    private final int index;
+    private final JsonAdaptedPerson person;
+    // set only for SNAPSHOT
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("index") int index,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("checksum") Long checksum) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Creates a record that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.ADD, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Creates a record that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.SET, index, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Creates a record that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord delete(int index) {
+        return new JsonAdaptedJournalRecord(Operation.DELETE, index, null, null);
+    }
+
+    /**
+     * Creates the header of a journal that applies to the snapshot whose content has the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(Operation.SNAPSHOT, 0, null, checksum);
+    }
+
+    /**
+     * Returns the checksum of the snapshot this record names if it is a journal header, or null otherwise.
+     */
+    public Long getSnapshotChecksum() {
+        return op == Operation.SNAPSHOT ? checksum : null;
+    }
+
+    /**
+     * Applies this record to {@code persons}.
+     *
+     * @throws IllegalValueException if this record is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing operation"));
+        }
+        if (op == Operation.SNAPSHOT) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "header after the first line"));
+        }
+        int upperBound = op == Operation.ADD ? persons.size() : persons.size() - 1;
+        if (index < 0 || index > upperBound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "index " + index + " out of range"));
+        }
+        if (op != Operation.DELETE && person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing person"));
+        }
+
+        switch (op) {
+        case ADD:
+            persons.add(index, person.toModelType());
+            break;
+        case SET:
+            persons.set(index, person.toModelType());
+            break;
+        case DELETE:
+            persons.remove(index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown operation " + op));
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,6 +33,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -43,14 +45,17 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * {@code id} is null for persons saved before ids were stored, who are given a new id when read.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email, @JsonProperty("teleHandle") String teleHandle,
                              @JsonProperty("tutorialGroup") String tutorialGroup,
                              @JsonProperty("gradeMap") LinkedHashMap<String, String> gradeMap,
                              @JsonProperty("attendMap") LinkedHashMap<String, String> attendMap,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -63,10 +68,20 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String teleHandle, String tutorialGroup,
+                             LinkedHashMap<String, String> gradeMap, LinkedHashMap<String, String> attendMap,
+                             List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -90,6 +105,10 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
+        if (id != null && !Person.isValidId(id)) {
+            throw new IllegalValueException(Person.MESSAGE_ID_CONSTRAINTS);
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -139,10 +158,11 @@ class JsonAdaptedPerson {
         if (!GradeMap.isValidGradeMap(gradeMap)) {
             throw new IllegalValueException(GradeMap.MESSAGE_CONSTRAINTS);
         }
-        final GradeMap modelGradeMap = new GradeMap();
+        final Map<Assignments, Grade> grades = new EnumMap<>(Assignments.class);
         for (Map.Entry<String, String> entry : gradeMap.entrySet()) {
-            modelGradeMap.put(Assignments.fromString(entry.getKey()), new Grade(entry.getValue()));
+            grades.put(Assignments.fromString(entry.getKey()), Grade.of(entry.getValue()));
         }
+        final GradeMap modelGradeMap = new GradeMap(grades);
 
         if (attendMap == null) {
             throw new IllegalValueException(
@@ -151,18 +171,28 @@ class JsonAdaptedPerson {
         if (!AttendMap.isValidAttendMap(attendMap)) {
             throw new IllegalValueException(AttendMap.MESSAGE_CONSTRAINTS);
         }
-        final AttendMap modelAttendMap = new AttendMap();
+        AttendMap modelAttendMap = new AttendMap();
         for (Map.Entry<String, String> entry : attendMap.entrySet()) {
             TutorialClass tutClass = TutorialClass.fromString(entry.getKey());
             int attended = Integer.parseInt(entry.getValue());
             if (attended == 1) {
-                modelAttendMap.markPresent(tutClass);
+                modelAttendMap = modelAttendMap.withPresent(tutClass);
             } else {
-                modelAttendMap.markAbsent(tutClass);
+                modelAttendMap = modelAttendMap.withAbsent(tutClass);
             }
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
+        if (id != null) {
+            return new Person(id,
+                    modelName,
+                    modelPhone,
+                    modelEmail,
+                    modelTeleHandle,
+                    modelTutorialGroup,
+                    modelGradeMap,
+                    modelAttendMap, modelTags);
+        }
         return new Person(modelName,
                 modelPhone,
                 modelEmail,
@@ -11,14 +11,21 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * Each save keeps the previous few versions of the file as backups, which are read instead if the file itself
+ * cannot be loaded.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /**
+     * Number of previous versions of the data file kept as backups.
+     */
+    public static final int BACKUP_GENERATIONS = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -44,15 +51,63 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return readWithBackups(filePath);
+    }
+
+    /**
+     * Reads the address book in {@code filePath}, or its newest backup that can be loaded if {@code filePath}
+     * itself cannot be loaded.
+     *
+     * @throws DataLoadingException if neither {@code filePath} nor any of its backups can be loaded.
+     */
+    static Optional<ReadOnlyAddressBook> readWithBackups(Path filePath) throws DataLoadingException {
+        try {
+            return readSingleFile(filePath);
+        } catch (DataLoadingException e) {
+            Optional<ReadOnlyAddressBook> backup = readNewestBackup(filePath);
+            if (!backup.isPresent()) {
+                throw e;
+            }
+            return backup;
+        }
+    }
+
+    /**
+     * Reads the newest backup of {@code filePath} that can be loaded.
+     *
+     * @return the address book in that backup, or {@code Optional.empty()} if no backup can be loaded.
+     */
+    static Optional<ReadOnlyAddressBook> readNewestBackup(Path filePath) {
+        for (int generation = 1; generation <= BACKUP_GENERATIONS; generation++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, generation);
+            try {
+                Optional<ReadOnlyAddressBook> backup = readSingleFile(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Recovered address book from backup " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup " + backupFilePath + " could not be loaded either");
+            }
+        }
+        return Optional.empty();
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-            filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+    /**
+     * Reads the address book in {@code filePath} alone, without falling back to its backups.
+     * Files written by {@link BinaryAddressBookStorage} are recognised and read as well.
+     */
+    static Optional<ReadOnlyAddressBook> readSingleFile(Path filePath) throws DataLoadingException {
+        try {
+            if (FileUtil.isFileExists(filePath) && BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                return Optional.of(BinaryAddressBookStorage.readFile(filePath));
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonSerializableAddressBook.readStreaming(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +128,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook.saveStreaming(addressBook, filePath, BACKUP_GENERATIONS);
     }
 
 }
@@ -1,14 +1,19 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -21,6 +26,8 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -57,4 +64,40 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Reads the address book file at {@code filePath} as a stream, converting each person into the model's
+     * {@code Person} as soon as it is parsed. Gives the same result as reading the file into this class and calling
+     * {@link #toModelType()}, without holding the whole file or all of its {@code JsonAdaptedPerson}s in memory.
+     *
+     * @return the address book, or {@code Optional.empty()} if the file is not found.
+     * @throws DataLoadingException  if the file could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyAddressBook> readStreaming(Path filePath) throws DataLoadingException,
+            IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedPerson.class,
+                jsonAdaptedPerson -> {
+                    Person person = jsonAdaptedPerson.toModelType();
+                    if (addressBook.hasPerson(person)) {
+                        throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                    }
+                    addressBook.addPerson(person);
+                });
+        return isFound ? Optional.of(addressBook) : Optional.empty();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} in the same format as this class, converting one person at a
+     * time as it is written. The previous file is kept as the newest of {@code backupGenerations} backups.
+     *
+     * @return the CRC-32 checksum of the file written.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static long saveStreaming(ReadOnlyAddressBook addressBook, Path filePath, int backupGenerations)
+            throws IOException {
+        return JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD, addressBook.getPersonList(), JsonAdaptedPerson::new,
+                backupGenerations);
+    }
+
 }
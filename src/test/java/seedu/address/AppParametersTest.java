@@ -39,10 +39,31 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validGeneratedCohort_success() {
+        parametersStub.namedParameters.put("generate-cohort", "5000");
+        parametersStub.namedParameters.put("cohort-seed", "-7");
+        expected.setGeneratedCohortSize(5000);
+        expected.setGeneratedCohortSeed(-7);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidGeneratedCohort_success() {
+        parametersStub.namedParameters.put("generate-cohort", "-1");
+        parametersStub.namedParameters.put("cohort-seed", "seed");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("generate-cohort", "many");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", generatedCohortSize=" + appParameters.getGeneratedCohortSize()
+                + ", generatedCohortSeed=" + appParameters.getGeneratedCohortSeed() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +87,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different generated cohort size -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setGeneratedCohortSize(100);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different generated cohort seed -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setGeneratedCohortSeed(1);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
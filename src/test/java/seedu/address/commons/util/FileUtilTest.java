@@ -1,13 +1,28 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,73 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutLeftoverFiles() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_existingFile_keepsPermissions() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) == null) {
+            return;
+        }
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+        FileUtil.writeToFile(file, "second");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeToFile_withBackups_keepsNewestGenerations() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int i = 1; i <= 4; i++) {
+            FileUtil.writeToFile(file, "version " + i, 2);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+    }
+
+    @Test
+    public void appendToFile_missingFile_createdAndAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void getChecksum() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path copy = testFolder.resolve("copy.txt");
+        FileUtil.writeToFile(file, "content");
+        FileUtil.writeToFile(copy, "content");
+        assertEquals(FileUtil.getChecksum(file), FileUtil.getChecksum(copy));
+
+        FileUtil.writeToFile(copy, "contents");
+        assertNotEquals(FileUtil.getChecksum(file), FileUtil.getChecksum(copy));
+    }
+
+    @Test
+    public void writeToFile_contentWriter_returnsChecksumOfFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        long checksum = FileUtil.writeToFile(file, out -> {
+            out.write("first ".getBytes(StandardCharsets.UTF_8));
+            out.write("second".getBytes(StandardCharsets.UTF_8));
+        }, 1);
+        assertEquals(FileUtil.getChecksum(file), checksum);
+    }
 }
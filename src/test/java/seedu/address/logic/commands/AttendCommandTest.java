@@ -1,14 +1,20 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDICES_SIZE_1;
 import static seedu.address.testutil.TypicalIndexes.INDICES_SIZE_3;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.TutorialClass;
 
 public class AttendCommandTest {
@@ -40,4 +46,17 @@ public class AttendCommandTest {
         // different indices -> returns false
         assertFalse(commandWithIndicesWithTut1.equals(new AttendCommand(INDICES_SIZE_1, TutorialClass.t1)));
     }
+
+    @Test
+    public void execute_validIndex_originalPersonUnchanged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person personToMark = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+
+        new AttendCommand(INDEX_FIRST_PERSON, TutorialClass.t1).execute(model);
+
+        Person markedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertTrue(markedPerson.hasAttendedTutorial(TutorialClass.t1));
+        assertEquals("1/" + TutorialClass.values().length, markedPerson.getOverallAttendance());
+        assertFalse(personToMark.hasAttendedTutorial(TutorialClass.t1));
+    }
 }
@@ -18,7 +18,12 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Assignments;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.GradeRange;
 import seedu.address.model.person.PersonContainsKeywords;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -86,6 +91,23 @@ public class FindCommandTest {
         assertEquals(List.of(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_gradeRange_gradedPersonsInRangeFound() {
+        for (Model m : List.of(model, expectedModel)) {
+            m.setPerson(CARL, new PersonBuilder(CARL)
+                    .withGradeMap(new GradeMap().with(Assignments.Q3, Grade.of("45.00"))).build());
+            m.setPerson(ELLE, new PersonBuilder(ELLE)
+                    .withGradeMap(new GradeMap().with(Assignments.Q3, Grade.of("50.00"))).build());
+        }
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        PersonContainsKeywords predicate = new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(new GradeRange(Assignments.Q3, 0, 4999)));
+        FindCommand command = new FindCommand(predicate, false);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(CARL.getName(), model.getFilteredPersonList().get(0).getName());
+    }
+
     @Test
     public void execute_verboseCommand_moreDetailsShown() {
         PersonContainsKeywords predicate = preparePredicate("Kurz Elle Kunz");
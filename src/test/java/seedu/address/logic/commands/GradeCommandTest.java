@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ASSIGNMENT_Q1;
@@ -7,11 +8,17 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GRADE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GRADE_BOB;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Assignments;
 import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.Person;
 
 public class GradeCommandTest {
 
@@ -46,4 +53,17 @@ public class GradeCommandTest {
                 new Grade(VALID_GRADE_BOB),
                 Assignments.fromString(VALID_ASSIGNMENT_Q1))));
     }
+
+    @Test
+    public void execute_validIndex_originalPersonUnchanged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person personToGrade = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        GradeMap originalGrades = personToGrade.getGradeMap();
+
+        new GradeCommand(INDEX_FIRST_PERSON, Grade.of(VALID_GRADE_AMY), Assignments.Q1).execute(model);
+
+        Person gradedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals(Grade.of(VALID_GRADE_AMY), gradedPerson.getOverallGrade());
+        assertEquals(new GradeMap(), originalGrades);
+    }
 }
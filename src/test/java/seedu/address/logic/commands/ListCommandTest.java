@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.assertVerboseCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TutorialGroup;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -39,4 +42,23 @@ public class ListCommandTest {
         assertCommandSuccess(new ListCommand(false), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
         assertVerboseCommandSuccess(new ListCommand(true), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_tutorialGroup_showsOnlyMembers() {
+        TutorialGroup tutorialGroup = new TutorialGroup("TG02");
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_TUTORIAL_GROUP, tutorialGroup);
+        expectedModel.updateFilteredPersonList(person -> person.getTutorialGroup().equals(tutorialGroup));
+        assertCommandSuccess(new ListCommand(tutorialGroup, false), model, expectedMessage, expectedModel);
+        assertFalse(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listTutorialGroup = new ListCommand(new TutorialGroup("TG01"), false);
+
+        assertTrue(listTutorialGroup.equals(new ListCommand(new TutorialGroup("TG01"), false)));
+        assertFalse(listTutorialGroup.equals(new ListCommand(new TutorialGroup("TG02"), false)));
+        assertFalse(listTutorialGroup.equals(new ListCommand(false)));
+        assertTrue(new ListCommand(false).equals(new ListCommand(null, false)));
+    }
 }
@@ -36,6 +36,15 @@ public class SortCommandTest {
         }
     }
 
+    @Test
+    public void execute_sortByNameDesc_addressBookOrderUnchanged() {
+        Model model = newModel();
+        new SortCommand(SortCommand.Field.NAME, SortCommand.Order.DESC, false).execute(model);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+        assertTrue(new SortCommand(SortCommand.Field.NAME, SortCommand.Order.DESC, false).isReadOnly());
+    }
+
     @Test
     public void execute_sortByNameDesc_success() {
         Model model = newModel();
@@ -134,6 +143,46 @@ public class SortCommandTest {
         }
     }
 
+    @Test
+    public void execute_sortByTutorialThenGradeDesc_success() {
+        Model model = newModel();
+        SortCommand cmd = new SortCommand(List.of(
+                new SortCommand.Criterion(SortCommand.Field.TUTORIAL, SortCommand.Order.ASC),
+                new SortCommand.Criterion(SortCommand.Field.GRADE, SortCommand.Order.DESC)), false);
+        CommandResult result = cmd.execute(model);
+        assertEquals("Students sorted by tutorial in ascending order, then grade in descending order.",
+                result.getFeedbackToUser());
+
+        List<Person> list = model.getFilteredPersonList();
+        for (int i = 1; i < list.size(); i++) {
+            Person prev = list.get(i - 1);
+            Person cur = list.get(i);
+            int prevGroup = prev.getTutorialGroup().getTutorialGroupNumber();
+            int curGroup = cur.getTutorialGroup().getTutorialGroupNumber();
+            assertTrue(prevGroup < curGroup || prevGroup == curGroup
+                    && prev.getOverallGrade().valueFloat >= cur.getOverallGrade().valueFloat);
+        }
+    }
+
+    @Test
+    public void execute_equalKeys_keepOrderAdded() {
+        Model model = new ModelManager();
+        Person first = new PersonBuilder().withName("Same Name").withEmail("first@example.com").build();
+        Person second = new PersonBuilder().withName("same name").withEmail("second@example.com").build();
+        Person other = new PersonBuilder().withName("Other").withEmail("other@example.com").build();
+        model.addPerson(first);
+        model.addPerson(second);
+        model.addPerson(other);
+
+        new SortCommand(SortCommand.Field.NAME, SortCommand.Order.DESC, false).execute(model);
+        assertEquals(List.of(first, second, other), model.getFilteredPersonList());
+
+        // persons edited after sorting keep their place among equal persons
+        Person editedFirst = new PersonBuilder(first).withPhone("91234567").build();
+        model.setPerson(first, editedFirst);
+        assertEquals(List.of(editedFirst, second, other), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_sortEmptyList_noError() {
         Model emptyModel = new ModelManager();
@@ -27,8 +27,10 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.GradeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UnattendCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Assignments;
 import seedu.address.model.person.Grade;
@@ -76,6 +78,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = List.of("foo", "bar", "baz");
@@ -153,6 +167,16 @@ public class AddressBookParserTest {
         assertEquals(ExitCommand.COMMAND_WORD, parser.fuzzyMatch(ExitCommand.FUZZY_COMMAND_WORD));
     }
 
+    @Test
+    public void fuzzyMatch_undoCommand() throws Exception {
+        assertEquals(UndoCommand.COMMAND_WORD, parser.fuzzyMatch(UndoCommand.FUZZY_COMMAND_WORD));
+    }
+
+    @Test
+    public void fuzzyMatch_redoCommand() throws Exception {
+        assertEquals(RedoCommand.COMMAND_WORD, parser.fuzzyMatch(RedoCommand.FUZZY_COMMAND_WORD));
+    }
+
     @Test
     public void fuzzyMatch_findCommand() throws Exception {
         assertEquals(FindCommand.COMMAND_WORD, parser.fuzzyMatch(FindCommand.FUZZY_COMMAND_WORD));
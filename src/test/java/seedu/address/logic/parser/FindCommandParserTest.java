@@ -12,7 +12,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Assignments;
+import seedu.address.model.person.AttendanceQuery;
+import seedu.address.model.person.GradeRange;
 import seedu.address.model.person.PersonContainsKeywords;
+import seedu.address.model.person.TutorialClass;
 
 public class FindCommandParserTest {
 
@@ -68,4 +72,31 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, input1, expected1);
     }
 
+    @Test
+    public void parse_gradeRanges_returnsFindCommand() {
+        FindCommand expected = new FindCommand(new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(new GradeRange(Assignments.Q3, 0, 4999), new GradeRange(Assignments.Finals, 4000, 6000))),
+                false);
+
+        assertParseSuccess(parser, " g/Q3<50 g/Finals:40-60", expected);
+        assertParseSuccess(parser, " g/Q3 < 50 g/ Finals : 40 - 60 ", expected);
+    }
+
+    @Test
+    public void parse_invalidGradeRange_throwsParseException() {
+        assertParseFailure(parser, " n/Alice g/Q3=50", GradeRange.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_attendanceQueries_returnsFindCommand() {
+        AttendanceQuery missedT3 = AttendanceQuery.not(AttendanceQuery.attended(TutorialClass.t3));
+        AttendanceQuery missedBoth = AttendanceQuery.and(
+                AttendanceQuery.not(AttendanceQuery.attended(TutorialClass.t4)),
+                AttendanceQuery.not(AttendanceQuery.attended(TutorialClass.t5)));
+        FindCommand expected = new FindCommand(new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(missedT3, missedBoth)), true);
+
+        assertParseSuccess(parser, " c/not t3 c/not t4 and not t5 " + SUFFIX_VERBOSE, expected);
+        assertParseFailure(parser, " c/not", AttendanceQuery.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -1,11 +1,15 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
 import static seedu.address.logic.parser.CliSyntax.SUFFIX_VERBOSE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.person.TutorialGroup;
 
 public class ListCommandParserTest {
 
@@ -20,4 +24,21 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, "redundant", expectedListCommand);
         assertParseSuccess(parser, SUFFIX_VERBOSE, expectedListCommand1);
     }
+
+    @Test
+    public void parse_tutorialGroup_returnsListCommand() {
+        ListCommand expectedListCommand = new ListCommand(new TutorialGroup("TG03"), false);
+
+        assertParseSuccess(parser, " " + PREFIX_TUTORIAL_GROUP + "TG03", expectedListCommand);
+        assertParseSuccess(parser, " " + PREFIX_TUTORIAL_GROUP + "tg3  ", expectedListCommand);
+        assertParseSuccess(parser, " " + PREFIX_TUTORIAL_GROUP + "TG03 " + SUFFIX_VERBOSE,
+                new ListCommand(new TutorialGroup("TG03"), true));
+    }
+
+    @Test
+    public void parse_invalidTutorialGroup_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_TUTORIAL_GROUP + "03", TutorialGroup.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_TUTORIAL_GROUP + "TG03 " + PREFIX_TUTORIAL_GROUP + "TG04",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TUTORIAL_GROUP));
+    }
 }
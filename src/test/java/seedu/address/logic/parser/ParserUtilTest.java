@@ -11,13 +11,16 @@ import static seedu.address.testutil.TypicalIndexes.INDICES_SIZE_3;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Assignments;
+import seedu.address.model.person.AttendanceQuery;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.GradeRange;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TeleHandle;
@@ -303,4 +306,48 @@ public class ParserUtilTest {
         assertEquals(TutorialClass.t1, ParserUtil.parseTutorialClass(tutorialClasstWithWhitespace));
     }
 
+    @Test
+    public void parseGradeRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseGradeRange(null));
+    }
+
+    @Test
+    public void parseGradeRange_invalidValue_throwsParseException() {
+        for (String invalid : List.of("Q3", "Q3=50", "Quiz3<50", "Q3<abc", "Q3<101", "Q3<0", "Q3>100",
+                "Finals:40", "Finals:60-40", "Finals:-5-40")) {
+            assertThrows(ParseException.class, GradeRange.MESSAGE_CONSTRAINTS, () ->
+                    ParserUtil.parseGradeRange(invalid));
+        }
+    }
+
+    @Test
+    public void parseGradeRange_validValue_returnsGradeRange() throws Exception {
+        assertEquals(new GradeRange(Assignments.Q3, 0, 4999), ParserUtil.parseGradeRange("Q3<50"));
+        assertEquals(new GradeRange(Assignments.Q3, 0, 5000), ParserUtil.parseGradeRange(" q3 <= 50 "));
+        assertEquals(new GradeRange(Assignments.Q3, 5001, 10000), ParserUtil.parseGradeRange("Q3>50"));
+        assertEquals(new GradeRange(Assignments.Q3, 5050, 10000), ParserUtil.parseGradeRange("Q3>=50.5"));
+        assertEquals(new GradeRange(Assignments.Finals, 4000, 6000), ParserUtil.parseGradeRange("Finals:40-60"));
+        assertEquals(new GradeRange(null, 0, 10000), ParserUtil.parseGradeRange("OVERALL:0-100"));
+    }
+
+    @Test
+    public void parseAttendanceQuery_invalidValue_throwsParseException() {
+        for (String invalid : List.of("", "t12", "not", "t3 and", "t3 t4", "(t3 or t4", "t3)", "nor t3")) {
+            assertThrows(ParseException.class, AttendanceQuery.MESSAGE_CONSTRAINTS, () ->
+                    ParserUtil.parseAttendanceQuery(invalid));
+        }
+    }
+
+    @Test
+    public void parseAttendanceQuery_validValue_returnsAttendanceQuery() throws Exception {
+        AttendanceQuery t3 = AttendanceQuery.attended(TutorialClass.t3);
+        AttendanceQuery t4 = AttendanceQuery.attended(TutorialClass.t4);
+        AttendanceQuery t5 = AttendanceQuery.attended(TutorialClass.t5);
+
+        assertEquals(AttendanceQuery.not(t3), ParserUtil.parseAttendanceQuery(" NOT T3 "));
+        // not binds tighter than and, which binds tighter than or
+        assertEquals(AttendanceQuery.or(t3, AttendanceQuery.and(AttendanceQuery.not(t4), t5)),
+                ParserUtil.parseAttendanceQuery("t3 or not t4 and t5"));
+        assertEquals(AttendanceQuery.not(AttendanceQuery.or(t4, t5)), ParserUtil.parseAttendanceQuery("not(t4 or t5)"));
+    }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.parser.CliSyntax.SUFFIX_VERBOSE;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
@@ -55,6 +57,27 @@ public class SortCommandParserTest {
                 parser.parse("attendance asc" + " " + SUFFIX_VERBOSE));
     }
 
+    @Test
+    public void parse_multipleFields_success() throws Exception {
+        SortCommand expected = new SortCommand(List.of(
+                new SortCommand.Criterion(SortCommand.Field.TUTORIAL, SortCommand.Order.ASC),
+                new SortCommand.Criterion(SortCommand.Field.GRADE, SortCommand.Order.DESC)), false);
+        assertEquals(expected, parser.parse("tutorial asc grade desc"));
+
+        // orders may be left out of any field
+        expected = new SortCommand(List.of(
+                new SortCommand.Criterion(SortCommand.Field.TUTORIAL, SortCommand.Order.ASC),
+                new SortCommand.Criterion(SortCommand.Field.ATTENDANCE, SortCommand.Order.DESC),
+                new SortCommand.Criterion(SortCommand.Field.NAME, SortCommand.Order.ASC)), true);
+        assertEquals(expected, parser.parse("tg attendance desc name " + SUFFIX_VERBOSE));
+    }
+
+    @Test
+    public void parse_repeatedField_throws() {
+        assertThrows(ParseException.class, () -> parser.parse("name asc name desc"));
+        assertThrows(ParseException.class, () -> parser.parse("tutorial grade tg"));
+    }
+
     @Test
     public void parse_emptyDefaultsToNameAsc_success() throws Exception {
         assertEquals(new SortCommand(SortCommand.Field.NAME, SortCommand.Order.ASC, false),
@@ -92,5 +115,6 @@ public class SortCommandParserTest {
     public void parse_extraArguments_throws() {
         assertThrows(ParseException.class, () -> parser.parse("name asc extra"));
         assertThrows(ParseException.class, () -> parser.parse("grade desc trailing words"));
+        assertThrows(ParseException.class, () -> parser.parse("grade desc asc"));
     }
 }
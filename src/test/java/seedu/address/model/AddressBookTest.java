@@ -83,6 +83,15 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_afterModifications_increases() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertEquals(initialCount + 1, addressBook.getModificationCount());
+        addressBook.removePerson(ALICE);
+        assertEquals(initialCount + 2, addressBook.getModificationCount());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -7,6 +7,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -16,8 +17,11 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywords;
+import seedu.address.model.person.PersonOrder;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -94,6 +98,39 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortPersonList_personsAddedAndFiltered_staysSortedWithoutReorderingAddressBook() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.sortPersonList(PersonOrder.by(PersonOrder.Key.NAME, true));
+        modelManager.addPerson(CARL);
+
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON, ALICE, CARL), modelManager.getAddressBook().getPersonList());
+
+        modelManager.updateFilteredPersonList(person -> !person.equals(BENSON));
+        assertEquals(Arrays.asList(CARL, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_personsEditedAndRestored_staysFiltered() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.commitAddressBook();
+        modelManager.findPersons(new PersonContainsKeywords(List.of("meier"), List.of(), List.of(), List.of()));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+
+public class SortedPersonListTest {
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(BENSON, DANIEL, ALICE);
+    private final SortedPersonList sortedPersons = new SortedPersonList(source);
+
+    @Test
+    public void constructor_noOrder_keepsSourceOrder() {
+        assertEquals(List.of(BENSON, DANIEL, ALICE), sortedPersons);
+    }
+
+    @Test
+    public void setOrder_validOrder_sortsWithoutChangingSource() {
+        sortedPersons.setOrder(PersonOrder.by(PersonOrder.Key.NAME, false));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), sortedPersons);
+        assertEquals(List.of(BENSON, DANIEL, ALICE), source);
+        assertEquals(2, sortedPersons.getSourceIndex(0));
+
+        sortedPersons.setOrder(null);
+        assertEquals(List.of(BENSON, DANIEL, ALICE), sortedPersons);
+    }
+
+    @Test
+    public void sourceChanged_personsAddedAndRemoved_staysSorted() {
+        sortedPersons.setOrder(PersonOrder.by(PersonOrder.Key.NAME, true));
+        source.add(1, CARL);
+        assertEquals(List.of(DANIEL, CARL, BENSON, ALICE), sortedPersons);
+
+        source.remove(DANIEL);
+        source.set(0, DANIEL);
+        assertEquals(List.of(DANIEL, CARL, ALICE), sortedPersons);
+        for (int i = 0; i < sortedPersons.size(); i++) {
+            assertEquals(sortedPersons.get(i), source.get(sortedPersons.getSourceIndex(i)));
+        }
+
+        source.clear();
+        assertEquals(List.of(), sortedPersons);
+    }
+
+    @Test
+    public void getSourceIndex_outOfRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> sortedPersons.getSourceIndex(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> sortedPersons.get(-1));
+    }
+}
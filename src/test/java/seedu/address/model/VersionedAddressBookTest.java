@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final long LARGE_BUDGET = 1 << 20;
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(getTypicalAddressBook(), LARGE_BUDGET);
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void canUndoRedo_newAddressBook_returnsFalse() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_unchanged_keepsNoState() {
+        versionedAddressBook.commit();
+        versionedAddressBook.setPersons(getTypicalPersons());
+        versionedAddressBook.commit();
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(0, versionedAddressBook.getHistoryBytes());
+    }
+
+    @Test
+    public void undoRedo_multipleStates_restoresEachState() {
+        List<Person> initial = getTypicalPersons();
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        versionedAddressBook.setPerson(ALICE, editedAlice);
+        versionedAddressBook.commit();
+        List<Person> afterEdit = new ArrayList<>(versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        List<Person> afterAdd = new ArrayList<>(initial);
+        afterAdd.add(HOON);
+        assertEquals(afterAdd, versionedAddressBook.getPersonList());
+        assertSame(ALICE, versionedAddressBook.getPersonList().get(0));
+
+        versionedAddressBook.undo();
+        assertEquals(initial, versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(afterEdit, versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedChange_commitsItFirst() {
+        versionedAddressBook.removePerson(BENSON);
+        assertTrue(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalPersons(), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.redo();
+        assertFalse(versionedAddressBook.hasPerson(BENSON));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoableStates() {
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.addPerson(IDA);
+        assertFalse(versionedAddressBook.canRedo());
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalPersons(), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void commit_reorderedPersons_costsOnlyReferences() {
+        List<Person> reordered = new ArrayList<>(getTypicalPersons());
+        reordered.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        versionedAddressBook.setPersons(reordered);
+        versionedAddressBook.commit();
+
+        int personCount = getTypicalPersons().size();
+        long referencesOnly = VersionedAddressBook.STATE_OVERHEAD_BYTES
+                + 2 * personCount * VersionedAddressBook.REFERENCE_BYTES;
+        assertEquals(referencesOnly, versionedAddressBook.getHistoryBytes());
+    }
+
+    @Test
+    public void commit_editInLargeCohort_costsOnlyChangedPerson() {
+        ReadOnlyAddressBook cohort = SampleDataUtil.getSampleAddressBook(10_000, 1);
+        VersionedAddressBook largeAddressBook = new VersionedAddressBook(cohort, LARGE_BUDGET);
+        Person target = cohort.getPersonList().get(5_000);
+        largeAddressBook.setPerson(target, new PersonBuilder(target).withPhone("91234567").build());
+        largeAddressBook.commit();
+
+        assertEquals(VersionedAddressBook.STATE_OVERHEAD_BYTES + 2 * VersionedAddressBook.REFERENCE_BYTES
+                + VersionedAddressBook.PERSON_BYTES, largeAddressBook.getHistoryBytes());
+
+        largeAddressBook.undo();
+        assertSame(target, largeAddressBook.getPersonList().get(5_000));
+    }
+
+    @Test
+    public void commit_overBudget_evictsOldestStates() {
+        long stateBytes = VersionedAddressBook.STATE_OVERHEAD_BYTES + VersionedAddressBook.REFERENCE_BYTES;
+        VersionedAddressBook smallAddressBook = new VersionedAddressBook(new AddressBook(), 2 * stateBytes);
+        smallAddressBook.addPerson(ALICE);
+        smallAddressBook.commit();
+        smallAddressBook.addPerson(BENSON);
+        smallAddressBook.commit();
+        smallAddressBook.addPerson(HOON);
+        smallAddressBook.commit();
+        assertEquals(2 * stateBytes, smallAddressBook.getHistoryBytes());
+
+        smallAddressBook.undo();
+        smallAddressBook.undo();
+        assertEquals(List.of(ALICE), smallAddressBook.getPersonList());
+        assertFalse(smallAddressBook.canUndo());
+    }
+
+    @Test
+    public void setMemoryBudget_zero_forgetsAllStates() {
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        versionedAddressBook.setMemoryBudget(0);
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(0, versionedAddressBook.getHistoryBytes());
+
+        versionedAddressBook.addPerson(IDA);
+        assertFalse(versionedAddressBook.canUndo());
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 public class AttendMapTest {
@@ -18,17 +21,17 @@ public class AttendMapTest {
     }
 
     @Test
-    public void markPresent_marksAsPresent() {
+    public void withPresent_marksAsPresent() {
         AttendMap attendMap = new AttendMap();
-        attendMap.markPresent(TutorialClass.t1);
+        attendMap = attendMap.withPresent(TutorialClass.t1);
         assertTrue(attendMap.isPresent(TutorialClass.t1));
     }
 
     @Test
-    public void markAbsent_marksAsAbsent() {
+    public void withAbsent_marksAsAbsent() {
         AttendMap attendMap = new AttendMap();
-        attendMap.markPresent(TutorialClass.t2);
-        attendMap.markAbsent(TutorialClass.t2);
+        attendMap = attendMap.withPresent(TutorialClass.t2);
+        attendMap = attendMap.withAbsent(TutorialClass.t2);
         assertFalse(attendMap.isPresent(TutorialClass.t2));
     }
 
@@ -42,17 +45,17 @@ public class AttendMapTest {
     @Test
     public void getOverallAttendance_allPresent_returnsCorrectRatio() {
         AttendMap attendMap = new AttendMap();
-        attendMap.markPresent(TutorialClass.t1);
-        attendMap.markPresent(TutorialClass.t2);
-        attendMap.markPresent(TutorialClass.t3);
-        attendMap.markPresent(TutorialClass.t4);
-        attendMap.markPresent(TutorialClass.t5);
-        attendMap.markPresent(TutorialClass.t6);
-        attendMap.markPresent(TutorialClass.t7);
-        attendMap.markPresent(TutorialClass.t8);
-        attendMap.markPresent(TutorialClass.t9);
-        attendMap.markPresent(TutorialClass.t10);
-        attendMap.markPresent(TutorialClass.t11);
+        attendMap = attendMap.withPresent(TutorialClass.t1);
+        attendMap = attendMap.withPresent(TutorialClass.t2);
+        attendMap = attendMap.withPresent(TutorialClass.t3);
+        attendMap = attendMap.withPresent(TutorialClass.t4);
+        attendMap = attendMap.withPresent(TutorialClass.t5);
+        attendMap = attendMap.withPresent(TutorialClass.t6);
+        attendMap = attendMap.withPresent(TutorialClass.t7);
+        attendMap = attendMap.withPresent(TutorialClass.t8);
+        attendMap = attendMap.withPresent(TutorialClass.t9);
+        attendMap = attendMap.withPresent(TutorialClass.t10);
+        attendMap = attendMap.withPresent(TutorialClass.t11);
         String expected = "11/" + TutorialClass.values().length;
         assertEquals(expected, attendMap.getOverallAttendance());
     }
@@ -67,8 +70,8 @@ public class AttendMapTest {
     @Test
     public void getFormatAttendance_someAttendance_returnsCorrectString() {
         AttendMap attendMap = new AttendMap();
-        attendMap.markPresent(TutorialClass.t2);
-        attendMap.markPresent(TutorialClass.t5);
+        attendMap = attendMap.withPresent(TutorialClass.t2);
+        attendMap = attendMap.withPresent(TutorialClass.t5);
         String expected = "Attended: " + TutorialClass.t2.getDescription() + ", "
                 + TutorialClass.t5.getDescription();
         assertEquals(expected, attendMap.formatAttendance());
@@ -88,16 +91,61 @@ public class AttendMapTest {
 
     @Test
     public void equals_identicalMaps_returnsTrue() {
-        AttendMap attendMap = new AttendMap();
-        AttendMap copyOfAttendMap = new AttendMap(attendMap);
-        assertEquals(attendMap, copyOfAttendMap);
+        AttendMap attendMap = new AttendMap().withPresent(TutorialClass.t4);
+        AttendMap otherAttendMap = new AttendMap().withPresent(TutorialClass.t4);
+        assertEquals(attendMap, otherAttendMap);
     }
 
     @Test
     public void equals_differentMaps_returnsFalse() {
         AttendMap attendMap = new AttendMap();
         AttendMap differentAttendMap = new AttendMap();
-        differentAttendMap.markPresent(TutorialClass.t1);
+        differentAttendMap = differentAttendMap.withPresent(TutorialClass.t1);
         assertNotEquals(attendMap, differentAttendMap);
     }
+
+    @Test
+    public void getAttendanceRate_someAttendance_countsEachClassOnce() {
+        AttendMap attendMap = new AttendMap();
+        assertEquals(0f, attendMap.getAttendanceRate());
+        attendMap = attendMap.withPresent(TutorialClass.t1);
+        attendMap = attendMap.withPresent(TutorialClass.t1);
+        attendMap = attendMap.withPresent(TutorialClass.t11);
+        attendMap = attendMap.withAbsent(TutorialClass.t5);
+        assertEquals(2, attendMap.getAttendedCount());
+        assertEquals(2f / TutorialClass.values().length, attendMap.getAttendanceRate());
+    }
+
+    @Test
+    public void hashCode_identicalMaps_equal() {
+        AttendMap attendMap = new AttendMap();
+        attendMap = attendMap.withPresent(TutorialClass.t3);
+        assertEquals(attendMap.hashCode(), new AttendMap().withPresent(TutorialClass.t3).hashCode());
+    }
+
+    @Test
+    public void toStringMap_allTutorialClassesInOrder() {
+        AttendMap attendMap = new AttendMap();
+        attendMap = attendMap.withPresent(TutorialClass.t2);
+        Map<String, String> stringMap = attendMap.toStringMap();
+        assertEquals(TutorialClass.values().length, stringMap.size());
+        assertEquals(TutorialClass.t1.name(), stringMap.keySet().iterator().next());
+        assertEquals("0", stringMap.get(TutorialClass.t1.name()));
+        assertEquals("1", stringMap.get(TutorialClass.t2.name()));
+        assertTrue(AttendMap.isValidAttendMap(stringMap));
+    }
+
+    @Test
+    public void withPresent_olderVersionsUnchanged() {
+        AttendMap absent = new AttendMap();
+        AttendMap present = absent.withPresent(TutorialClass.t6);
+        assertFalse(absent.isPresent(TutorialClass.t6));
+        assertTrue(present.isPresent(TutorialClass.t6));
+        assertFalse(present.withAbsent(TutorialClass.t6).isPresent(TutorialClass.t6));
+        assertTrue(present.isPresent(TutorialClass.t6));
+
+        // no change -> same map
+        assertSame(present, present.withPresent(TutorialClass.t6));
+        assertSame(absent, absent.withAbsent(TutorialClass.t6));
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.AttendanceQuery.and;
+import static seedu.address.model.person.AttendanceQuery.attended;
+import static seedu.address.model.person.AttendanceQuery.not;
+import static seedu.address.model.person.AttendanceQuery.or;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceQueryTest {
+
+    private static final AttendanceQuery MISSED_T4_AND_T5 = and(not(attended(TutorialClass.t4)),
+            not(attended(TutorialClass.t5)));
+
+    @Test
+    public void test() {
+        Person attendedT4 = new PersonBuilder().withAttendMap(new AttendMap().withPresent(TutorialClass.t4)).build();
+        Person attendedNone = new PersonBuilder().withAttendMap(new AttendMap()).build();
+
+        assertTrue(attended(TutorialClass.t4).test(attendedT4));
+        assertFalse(MISSED_T4_AND_T5.test(attendedT4));
+        assertTrue(MISSED_T4_AND_T5.test(attendedNone));
+        assertTrue(or(attended(TutorialClass.t1), not(attended(TutorialClass.t5))).test(attendedT4));
+    }
+
+    @Test
+    public void evaluate_largeCohortAfterRemovals_sameAsTest() {
+        List<Person> persons = SampleDataUtil.getSampleAddressBook(2_000, 3).getPersonList();
+        AttendanceIndex index = new AttendanceIndex();
+        persons.forEach(index::add);
+        // freed slots are reused by the persons added after them
+        persons.subList(0, 1_000).forEach(index::remove);
+        persons.subList(0, 500).forEach(index::add);
+        List<Person> indexed = persons.subList(0, 500).stream().collect(Collectors.toList());
+        indexed.addAll(persons.subList(1_000, persons.size()));
+
+        List<AttendanceQuery> queries = List.of(attended(TutorialClass.t3), not(attended(TutorialClass.t3)),
+                MISSED_T4_AND_T5, or(attended(TutorialClass.t1), and(attended(TutorialClass.t2),
+                        not(attended(TutorialClass.t11)))));
+        for (AttendanceQuery query : queries) {
+            List<Person> expected = indexed.stream().filter(query).collect(Collectors.toList());
+            List<Person> found = index.getPersons(query.evaluate(index));
+            assertEquals(expected.size(), found.size(), query.toString());
+            assertTrue(found.containsAll(expected), query.toString());
+        }
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(MISSED_T4_AND_T5.equals(and(not(attended(TutorialClass.t4)), not(attended(TutorialClass.t5)))));
+        assertFalse(MISSED_T4_AND_T5.equals(or(not(attended(TutorialClass.t4)), not(attended(TutorialClass.t5)))));
+        assertFalse(attended(TutorialClass.t4).equals(attended(TutorialClass.t5)));
+        assertFalse(attended(TutorialClass.t4).equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("(not t4 and not t5)", MISSED_T4_AND_T5.toString());
+    }
+}
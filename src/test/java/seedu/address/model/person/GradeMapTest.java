@@ -1,11 +1,16 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,26 +42,29 @@ public class GradeMapTest {
     }
 
     @Test
-    public void putAndGet_success() {
+    public void withAndGet_success() {
         GradeMap gradeMap = new GradeMap();
         Assignments firstAssignment = Assignments.getAllAssignments()[0];
         Grade firstGrade = new Grade(VALID_GRADE_0);
-        gradeMap.put(firstAssignment, firstGrade);
-        assertEquals(gradeMap.get(firstAssignment), firstGrade);
+        GradeMap updatedGradeMap = gradeMap.with(firstAssignment, firstGrade);
+        assertEquals(updatedGradeMap.get(firstAssignment), firstGrade);
+
+        // original is unchanged
+        assertFalse(gradeMap.isGraded(firstAssignment));
     }
 
     @Test
-    public void put_nullKey_throwsIllegalArgumentException() {
+    public void with_nullKey_throwsIllegalArgumentException() {
         GradeMap gradeMap = new GradeMap();
         Grade validGrade = new Grade(VALID_GRADE_0);
-        assertThrows(IllegalArgumentException.class, () -> gradeMap.put(null, validGrade));
+        assertThrows(IllegalArgumentException.class, () -> gradeMap.with(null, validGrade));
     }
 
     @Test
-    public void put_nullValue_throwsIllegalArgumentException() {
+    public void with_nullValue_throwsIllegalArgumentException() {
         GradeMap gradeMap = new GradeMap();
         Assignments firstAssignment = Assignments.getAllAssignments()[0];
-        assertThrows(IllegalArgumentException.class, () -> gradeMap.put(firstAssignment, null));
+        assertThrows(IllegalArgumentException.class, () -> gradeMap.with(firstAssignment, null));
     }
 
     @Test
@@ -73,11 +81,12 @@ public class GradeMapTest {
 
         Assignments firstAssignment = Assignments.getAllAssignments()[0];
         Grade firstGrade = new Grade(VALID_GRADE_0);
-        gradeMap1.put(firstAssignment, firstGrade);
+        gradeMap1 = gradeMap1.with(firstAssignment, firstGrade);
         assertNotEquals(gradeMap1, gradeMap2);
 
-        gradeMap2.put(firstAssignment, firstGrade);
+        gradeMap2 = gradeMap2.with(firstAssignment, firstGrade);
         assertEquals(gradeMap1, gradeMap2);
+        assertEquals(gradeMap1.hashCode(), gradeMap2.hashCode());
     }
 
     @Test
@@ -136,4 +145,60 @@ public class GradeMapTest {
                 + VALID_ASSIGNMENT_2 + ": " + VALID_GRADE_1;
         assertEquals(gradeMap.formatGrades(), expectedOutput);
     }
+
+    @Test
+    public void with_sameGrade_returnsSameMap() {
+        GradeMap gradeMap = new GradeMap().with(VALID_ASSIGNMENT_0, new Grade(VALID_GRADE_0));
+        assertSame(gradeMap, gradeMap.with(VALID_ASSIGNMENT_0, Grade.of(VALID_GRADE_0)));
+        assertSame(gradeMap, gradeMap.with(VALID_ASSIGNMENT_1, Grade.UNGRADED));
+    }
+
+    @Test
+    public void with_olderVersionsUnchanged() {
+        GradeMap first = new GradeMap().with(VALID_ASSIGNMENT_0, new Grade(VALID_GRADE_0));
+        GradeMap second = first.with(VALID_ASSIGNMENT_0, new Grade(VALID_GRADE_1));
+        GradeMap third = second.with(VALID_ASSIGNMENT_0, Grade.UNGRADED);
+
+        assertEquals(85f, first.getValue(VALID_ASSIGNMENT_0));
+        assertEquals(90f, second.getValue(VALID_ASSIGNMENT_0));
+        assertEquals(0f, third.getValue(VALID_ASSIGNMENT_0));
+        assertFalse(third.isGraded(VALID_ASSIGNMENT_0));
+        assertEquals(new GradeMap(), third);
+    }
+
+    @Test
+    public void toStringMap_allAssignmentsInOrder() {
+        GradeMap gradeMap = new GradeMap().with(VALID_ASSIGNMENT_2, new Grade(VALID_GRADE_1));
+        Map<String, String> stringMap = gradeMap.toStringMap();
+        assertEquals(Assignments.getAllAssignments().length, stringMap.size());
+        assertEquals(VALID_ASSIGNMENT_0.name(), stringMap.keySet().iterator().next());
+        assertEquals(" ", stringMap.get(VALID_ASSIGNMENT_STR_0));
+        assertEquals(VALID_GRADE_1, stringMap.get(VALID_ASSIGNMENT_2.name()));
+        assertEquals(stringMap.toString(), gradeMap.toString());
+    }
+
+    @Test
+    public void entrySet_allAssignmentsInOrder() {
+        GradeMap gradeMap = new GradeMap().with(VALID_ASSIGNMENT_2, new Grade(VALID_GRADE_1));
+        assertEquals(Assignments.getAllAssignments().length, gradeMap.size());
+        assertEquals(List.of(Assignments.getAllAssignments()), new ArrayList<>(gradeMap.keySet()));
+
+        Map<Assignments, Grade> copy = new LinkedHashMap<>(gradeMap);
+        assertEquals(Grade.of(VALID_GRADE_1), copy.get(VALID_ASSIGNMENT_2));
+        assertEquals(gradeMap, new GradeMap(copy));
+    }
+
+    @Test
+    public void put_readOnly_throwsUnsupportedOperationException() {
+        GradeMap gradeMap = new GradeMap();
+        assertThrows(UnsupportedOperationException.class, () -> gradeMap.put(VALID_ASSIGNMENT_0,
+                new Grade(VALID_GRADE_0)));
+        assertThrows(UnsupportedOperationException.class, () -> gradeMap.entrySet().clear());
+    }
+
+    @Test
+    public void clone_equalGradeMap() {
+        GradeMap gradeMap = new GradeMap().with(VALID_ASSIGNMENT_0, new Grade(VALID_GRADE_0));
+        assertEquals(gradeMap, gradeMap.clone());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -77,4 +79,63 @@ public class GradeTest {
         // different values -> returns false
         assertFalse(grade1.equals(new Grade("67.01")));
     }
+
+    @Test
+    public void fromHundredths() {
+        // out of range -> throws
+        assertThrows(IllegalArgumentException.class, () -> Grade.fromHundredths(-1));
+        assertThrows(IllegalArgumentException.class, () -> Grade.fromHundredths(Grade.MAX_HUNDREDTHS + 1));
+
+        assertEquals(new Grade("0.00"), Grade.fromHundredths(0));
+        assertEquals(new Grade("7.05"), Grade.fromHundredths(705));
+        assertEquals(new Grade("99.99"), Grade.fromHundredths(9999));
+        assertEquals(new Grade("100.00"), Grade.fromHundredths(Grade.MAX_HUNDREDTHS));
+        assertEquals(7.05f, Grade.fromHundredths(705).valueFloat);
+    }
+
+    @Test
+    public void toHundredths() {
+        assertEquals(705, new Grade("7.05").toHundredths());
+        assertEquals(Grade.MAX_HUNDREDTHS, new Grade("100.00").toHundredths());
+        assertEquals(3333, new Grade(33.333f).toHundredths());
+        assertFalse(new Grade(" ").isGraded());
+    }
+
+    @Test
+    public void isValidGrade_matchesValidationRegex() {
+        String[] candidates = {"", " ", "  ", "0", "0.", "0.0", "0.00", "00.00", "000.00", "7.5", "7.50", "07.50",
+            "99.99", "100.00", "100.01", "100.0", "101.00", "200.00", "-1.00", "+1.00", "1,00", "1.000", "a.bc",
+            "1.0a", ".00", "5.00\n", "\u0661.00"};
+        for (String candidate : candidates) {
+            assertEquals(candidate.matches(Grade.VALIDATION_REGEX), Grade.isValidGrade(candidate), candidate);
+        }
+    }
+
+    @Test
+    public void of_string() {
+        assertThrows(NullPointerException.class, () -> Grade.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Grade.of("100.01"));
+
+        // same grade -> same instance
+        assertSame(Grade.of("85.50"), Grade.of("85.50"));
+        assertSame(Grade.of("07.50"), Grade.of("7.50"));
+        assertSame(Grade.UNGRADED, Grade.of(" "));
+
+        assertEquals(new Grade("85.50"), Grade.of("85.50"));
+        assertEquals(new Grade("7.50"), new Grade("07.50"));
+        assertEquals(85.5f, Grade.of("85.50").valueFloat);
+        assertEquals(0f, Grade.UNGRADED.valueFloat);
+    }
+
+    @Test
+    public void of_float() {
+        assertThrows(IllegalArgumentException.class, () -> Grade.of(-0.01f));
+        assertThrows(IllegalArgumentException.class, () -> Grade.of(100.006f));
+        assertThrows(IllegalArgumentException.class, () -> Grade.of(Float.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Grade.of(Float.POSITIVE_INFINITY));
+
+        assertSame(Grade.of("87.13"), Grade.of(87.125f));
+        assertSame(Grade.of("100.00"), Grade.of(99.999f));
+        assertEquals(String.format("%.2f", 33.335f), Grade.of(33.335f).value);
+    }
 }
@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void isFoundIn_noKeywords_returnsFalse() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of());
+        assertFalse(matcher.isFoundIn(""));
+        assertFalse(matcher.isFoundIn("Alice"));
+    }
+
+    @Test
+    public void isFoundIn_emptyKeyword_returnsTrue() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of(""));
+        assertTrue(matcher.isFoundIn(""));
+        assertTrue(matcher.isFoundIn("Alice"));
+    }
+
+    @Test
+    public void isFoundIn_overlappingKeywords_returnsTrue() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("he", "she", "his", "hers"));
+        assertTrue(matcher.isFoundIn("uSHErs"));
+        assertTrue(matcher.isFoundIn("ahishers"));
+        assertFalse(matcher.isFoundIn("shame"));
+
+        // keyword reached only through a failure link
+        matcher = new KeywordMatcher(List.of("abcx", "bcd"));
+        assertTrue(matcher.isFoundIn("abcd"));
+        assertFalse(matcher.isFoundIn("abcabc"));
+    }
+
+    @Test
+    public void isFoundIn_differentCase_returnsTrue() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("aLiCe", "@BOB"));
+        assertTrue(matcher.isFoundIn("Alice Pauline"));
+        assertTrue(matcher.isFoundIn("@bob_99"));
+        assertFalse(matcher.isFoundIn("Alic Bob"));
+    }
+
+    @Test
+    public void isFoundIn_randomKeywords_sameAsContains() {
+        Random random = new Random(1);
+        for (int round = 0; round < 500; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = random.nextInt(4); i >= 0; i--) {
+                keywords.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            String text = randomText(random, random.nextInt(20));
+
+            String lowerText = text.toLowerCase(Locale.ROOT);
+            boolean expected = keywords.stream()
+                    .anyMatch(keyword -> lowerText.contains(keyword.toLowerCase(Locale.ROOT)));
+            assertEquals(expected, matcher.isFoundIn(text), keywords + " in " + text);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abAB".charAt(random.nextInt(4)));
+        }
+        return text.toString();
+    }
+}
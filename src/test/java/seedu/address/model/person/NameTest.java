@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,12 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getSortKey() {
+        assertEquals("peter jack 2nd", new Name("Peter Jack 2nd").getSortKey());
+        assertEquals(new Name("ALICE").getSortKey(), new Name("alice").getSortKey());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -139,6 +139,36 @@ public class PersonContainsKeywordsTest {
         assertFalse(predicate.test(person));
     }
 
+    @Test
+    public void test_gradeInRange_returnsTrue() {
+        Person person = new PersonBuilder().withName("Alice")
+                .withGradeMap(new GradeMap().with(Assignments.Q3, Grade.of("45.50"))).build();
+        PersonContainsKeywords predicate = new PersonContainsKeywords(List.of("Bob"), List.of(), List.of(),
+                List.of(), List.of(new GradeRange(Assignments.Q1, 0, 10000), new GradeRange(Assignments.Q3, 0, 4999)));
+        assertTrue(predicate.test(person));
+
+        // range bounds are inclusive
+        predicate = new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(new GradeRange(Assignments.Q3, 4550, 4550)));
+        assertTrue(predicate.test(person));
+    }
+
+    @Test
+    public void test_gradeNotInRange_returnsFalse() {
+        Person person = new PersonBuilder()
+                .withGradeMap(new GradeMap().with(Assignments.Q3, Grade.of("45.50"))).build();
+
+        // ungraded assignment
+        PersonContainsKeywords predicate = new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(new GradeRange(Assignments.Q1, 0, 10000)));
+        assertFalse(predicate.test(person));
+
+        // grade outside range
+        predicate = new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(new GradeRange(Assignments.Q3, 4551, 10000), new GradeRange(null, 0, 4549)));
+        assertFalse(predicate.test(person));
+    }
+
     @Test
     public void toStringMethod() {
         PersonContainsKeywords predicate = new PersonContainsKeywords(
@@ -147,7 +177,9 @@ public class PersonContainsKeywordsTest {
                 + "{nameKeywords=[Alice], "
                 + "emailKeywords=[gmail], "
                 + "teleHandleKeywords=[@al], "
-                + "tutorialGroupKeywords=[TG01]}";
+                + "tutorialGroupKeywords=[TG01], "
+                + "gradeRanges=[], "
+                + "attendanceQueries=[]}";
 
         assertEquals(expected, predicate.toString());
     }
@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexesTest {
+
+    private final PersonIndexes indexes = new PersonIndexes();
+
+    @Test
+    public void narrow_unindexableKeywords_returnsPredicate() {
+        indexes.add(ALICE);
+        PersonContainsKeywords shortKeyword = new PersonContainsKeywords(List.of("al"), List.of(), List.of(),
+                List.of());
+        assertSame(shortKeyword, indexes.narrow(shortKeyword));
+
+        PersonContainsKeywords partialGroup = new PersonContainsKeywords(List.of(), List.of(), List.of(),
+                List.of("G01"));
+        assertSame(partialGroup, indexes.narrow(partialGroup));
+    }
+
+    @Test
+    public void narrow_tutorialGroup_matchesOnlyMembers() {
+        getTypicalPersons().forEach(indexes::add);
+        PersonContainsKeywords predicate = new PersonContainsKeywords(List.of(), List.of(), List.of(),
+                List.of("tg02"));
+        Predicate<Person> narrowed = indexes.narrow(predicate);
+
+        for (Person person : getTypicalPersons()) {
+            assertEquals(person.getTutorialGroup().value.equals("TG02"), narrowed.test(person), person.toString());
+        }
+
+        // a member who moves group leaves the partition
+        Person movedBenson = new PersonBuilder(BENSON).withTutorialGroup("TG03").build();
+        indexes.remove(BENSON);
+        indexes.add(movedBenson);
+        assertFalse(indexes.narrow(predicate).test(movedBenson));
+    }
+
+    @Test
+    public void narrow_largeCohortAfterRemovals_sameAsPredicate() {
+        List<Person> persons = SampleDataUtil.getSampleAddressBook(2_000, 1).getPersonList();
+        persons.forEach(indexes::add);
+        // removing most persons rebuilds the trigram index
+        persons.subList(0, 1_500).forEach(indexes::remove);
+        List<Person> remaining = persons.subList(1_500, persons.size());
+
+        for (String keyword : List.of("tan", "e000", "e0001999", "LIM", "zzz")) {
+            PersonContainsKeywords predicate = new PersonContainsKeywords(List.of(keyword), List.of(keyword),
+                    List.of(keyword), List.of("TG07"));
+            Predicate<Person> narrowed = indexes.narrow(predicate);
+            for (Person person : remaining) {
+                assertEquals(predicate.test(person), narrowed.test(person), keyword + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void narrow_gradeRanges_sameAsPredicate() {
+        List<Person> persons = SampleDataUtil.getSampleAddressBook(2_000, 2).getPersonList();
+        persons.forEach(indexes::add);
+        List<List<GradeRange>> queries = List.of(
+                List.of(new GradeRange(Assignments.Q3, 0, 4999)),
+                List.of(new GradeRange(Assignments.Q1, 4000, 6000), new GradeRange(null, 9000, 10000)),
+                List.of(new GradeRange(Assignments.Finals, 0, 10000)));
+
+        for (List<GradeRange> ranges : queries) {
+            PersonContainsKeywords predicate = new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                    ranges);
+            Predicate<Person> narrowed = indexes.narrow(predicate);
+            assertNotSame(predicate, narrowed);
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), narrowed.test(person), ranges + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void narrow_attendanceQueries_sameAsPredicate() {
+        List<Person> persons = SampleDataUtil.getSampleAddressBook(2_000, 4).getPersonList();
+        persons.forEach(indexes::add);
+        AttendanceQuery missedT3 = AttendanceQuery.not(AttendanceQuery.attended(TutorialClass.t3));
+        PersonContainsKeywords predicate = new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(), List.of(missedT3));
+        Predicate<Person> narrowed = indexes.narrow(predicate);
+
+        assertNotSame(predicate, narrowed);
+        for (Person person : persons) {
+            assertEquals(missedT3.test(person), narrowed.test(person), person.toString());
+        }
+    }
+
+    @Test
+    public void narrow_regradedPerson_movesWithinRange() {
+        Person alice = new PersonBuilder(ALICE).withGradeMap(new GradeMap().with(Assignments.Q3, Grade.of("45.00")))
+                .build();
+        indexes.add(alice);
+        PersonContainsKeywords belowHalf = new PersonContainsKeywords(List.of(), List.of(), List.of(), List.of(),
+                List.of(new GradeRange(Assignments.Q3, 0, 4999)));
+        assertTrue(indexes.narrow(belowHalf).test(alice));
+
+        // regraded as by the grade command, which replaces the person
+        Person regradedAlice = new PersonBuilder(alice)
+                .withGradeMap(alice.getGradeMap().with(Assignments.Q3, Grade.of("80.00"))).build();
+        indexes.remove(alice);
+        indexes.add(regradedAlice);
+        assertFalse(indexes.narrow(belowHalf).test(regradedAlice));
+    }
+
+    @Test
+    public void narrow_personsAddedLater_testedWithPredicate() {
+        getTypicalPersons().forEach(indexes::add);
+        PersonContainsKeywords predicate = new PersonContainsKeywords(List.of("meier"), List.of(), List.of(),
+                List.of());
+        Predicate<Person> narrowed = indexes.narrow(predicate);
+        assertTrue(narrowed.test(BENSON));
+
+        // a person removed and added back, as by undo, is tested again
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        indexes.remove(BENSON);
+        indexes.add(editedBenson);
+        assertFalse(narrowed.test(editedBenson));
+        indexes.remove(editedBenson);
+        indexes.add(BENSON);
+        assertTrue(narrowed.test(BENSON));
+
+        // persons not indexed when narrowing are tested directly
+        assertTrue(narrowed.test(HOON));
+        indexes.add(HOON);
+        assertTrue(narrowed.test(HOON));
+    }
+}
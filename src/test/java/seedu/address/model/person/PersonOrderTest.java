@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrderTest {
+
+    @Test
+    public void by_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonOrder.by(null, false));
+        assertThrows(NullPointerException.class, () -> PersonOrder.by(PersonOrder.Key.NAME, false).thenBy(null, false));
+    }
+
+    @Test
+    public void compare_equalKeys_orderedById() {
+        Person first = new PersonBuilder(ALICE).withId(1).build();
+        Person second = new PersonBuilder(ALICE).withId(2).build();
+
+        // ties keep the order of the ids in either direction
+        assertTrue(PersonOrder.by(PersonOrder.Key.NAME, false).compare(first, second) < 0);
+        assertTrue(PersonOrder.by(PersonOrder.Key.NAME, true).compare(first, second) < 0);
+    }
+
+    @Test
+    public void compare_tieInFirstKey_brokenByLaterKey() {
+        // ALICE and CARL are in the same tutorial group
+        PersonOrder order = PersonOrder.by(PersonOrder.Key.TUTORIAL_GROUP, false).thenBy(PersonOrder.Key.NAME, true);
+        assertTrue(order.compare(CARL, ALICE) < 0);
+        assertTrue(order.compare(ALICE, BENSON) < 0);
+    }
+
+    @Test
+    public void sort_typicalPersons_sameOrderAsCompare() {
+        List<Person> persons = List.of(BENSON, CARL, ALICE);
+        PersonOrder order = PersonOrder.by(PersonOrder.Key.NAME, true);
+        int[] sorted = order.sort(persons);
+        assertEquals(List.of(CARL, BENSON, ALICE), List.of(persons.get(sorted[0]), persons.get(sorted[1]),
+                persons.get(sorted[2])));
+    }
+
+    @Test
+    public void sort_largeCohort_sameOrderAsCompare() {
+        List<Person> persons = SampleDataUtil.getSampleAddressBook(PersonOrder.PARALLEL_SORT_THRESHOLD, 1)
+                .getPersonList();
+        PersonOrder order = PersonOrder.by(PersonOrder.Key.TUTORIAL_GROUP, false)
+                .thenBy(PersonOrder.Key.OVERALL_GRADE, true);
+        int[] sorted = order.sort(persons);
+
+        List<Person> expected = new ArrayList<>(persons);
+        expected.sort(order);
+        assertEquals(expected.size(), sorted.length);
+        for (int i = 0; i < sorted.length; i++) {
+            assertSame(expected.get(i), persons.get(sorted[i]));
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersonOrder order = PersonOrder.by(PersonOrder.Key.TUTORIAL_GROUP, false)
+                .thenBy(PersonOrder.Key.ATTENDANCE_RATE, true);
+
+        // same keys and directions -> returns true
+        assertTrue(order.equals(PersonOrder.by(PersonOrder.Key.TUTORIAL_GROUP, false)
+                .thenBy(PersonOrder.Key.ATTENDANCE_RATE, true)));
+        assertEquals(order.hashCode(), PersonOrder.by(PersonOrder.Key.TUTORIAL_GROUP, false)
+                .thenBy(PersonOrder.Key.ATTENDANCE_RATE, true).hashCode());
+
+        // same object -> returns true
+        assertTrue(order.equals(order));
+
+        // null -> returns false
+        assertFalse(order.equals(null));
+
+        // different direction -> returns false
+        assertNotEquals(order, PersonOrder.by(PersonOrder.Key.TUTORIAL_GROUP, false)
+                .thenBy(PersonOrder.Key.ATTENDANCE_RATE, false));
+
+        // fewer keys -> returns false
+        assertNotEquals(order, PersonOrder.by(PersonOrder.Key.TUTORIAL_GROUP, false));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_ALICE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -48,6 +49,27 @@ public class PersonTest {
         assertFalse(ALICE.isSamePerson(editedAlice));
     }
 
+    @Test
+    public void getId() {
+        // new persons -> different ids
+        Person first = new PersonBuilder().build();
+        Person second = new PersonBuilder().build();
+        assertTrue(first.getId() != second.getId());
+
+        // edited copy -> same id, which is ignored by equality
+        Person editedFirst = new PersonBuilder(first).withPhone(VALID_PHONE_BOB).build();
+        assertEquals(first.getId(), editedFirst.getId());
+        assertEquals(new PersonBuilder(first).build(), new PersonBuilder(first).withId(first.getId() + 1).build());
+
+        // person with a given id -> later persons have larger ids
+        long givenId = second.getId() + 1000;
+        assertEquals(givenId, new PersonBuilder().withId(givenId).build().getId());
+        assertTrue(new PersonBuilder().build().getId() > givenId);
+
+        // invalid id
+        assertThrows(IllegalArgumentException.class, () -> new PersonBuilder().withId(-1).build());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -83,32 +105,22 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
 
         // different grade -> returns false
-        GradeMap gradeMap = ALICE.getGradeMap();
-        GradeMap clonedGradeMap = (GradeMap) gradeMap.clone();
-        clonedGradeMap.put(Assignments.Q1, new Grade(VALID_GRADE_AMY));
-        editedAlice = new PersonBuilder(ALICE).withGradeMap(clonedGradeMap).build();
+        GradeMap diffGradeMap = ALICE.getGradeMap().with(Assignments.Q1, new Grade(VALID_GRADE_AMY));
+        editedAlice = new PersonBuilder(ALICE).withGradeMap(diffGradeMap).build();
         assertFalse(ALICE.equals(editedAlice));
 
         // different attendance, mark present -> returns false
-        AttendMap attendMap = ALICE.getAttendMap();
-        AttendMap diffAttendMap = new AttendMap(attendMap);
-        diffAttendMap.markPresent(TutorialClass.t1);
+        AttendMap diffAttendMap = ALICE.getAttendMap().withPresent(TutorialClass.t1);
         editedAlice = new PersonBuilder(ALICE).withAttendMap(diffAttendMap).build();
         assertFalse(ALICE.equals(editedAlice));
 
         // different attendance, mark absent -> returns false
-        AttendMap attendMap1 = ALICE.getAttendMap();
-        attendMap1.markPresent(TutorialClass.t1);
-        AttendMap diffAttendMap1 = new AttendMap(attendMap1);
-        diffAttendMap1.markAbsent(TutorialClass.t1);
-        editedAlice = new PersonBuilder(ALICE).withAttendMap(diffAttendMap1).build();
-        assertFalse(ALICE.equals(editedAlice));
-        attendMap1.markAbsent(TutorialClass.t1);
+        Person presentAlice = new PersonBuilder(ALICE).withAttendMap(diffAttendMap).build();
+        editedAlice = new PersonBuilder(ALICE).withAttendMap(diffAttendMap.withAbsent(TutorialClass.t1)).build();
+        assertFalse(presentAlice.equals(editedAlice));
 
         // same attendance -> returns true
-        AttendMap attendMap2 = ALICE.getAttendMap();
-        AttendMap sameAttendMap = new AttendMap(attendMap2);
-        Person sameAlice = new PersonBuilder(ALICE).withAttendMap(sameAttendMap).build();
+        Person sameAlice = new PersonBuilder(ALICE).withAttendMap(new AttendMap()).build();
         assertTrue(ALICE.equals(sameAlice));
 
         // different tags -> returns false
@@ -127,4 +139,23 @@ public class PersonTest {
                 + ", tags=" + ALICE.getTags() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    @Test
+    public void derivedValues() {
+        GradeMap gradeMap = new GradeMap()
+                .with(Assignments.Q1, Grade.of("80.00"))
+                .with(Assignments.Q2, Grade.of("91.00"));
+        AttendMap attendMap = new AttendMap().withPresent(TutorialClass.t2);
+        Person person = new PersonBuilder(ALICE).withGradeMap(gradeMap).withAttendMap(attendMap).build();
+
+        assertEquals(Grade.of("85.50"), person.getOverallGrade());
+        assertEquals(gradeMap.formatGrades(), person.getFormattedGrades());
+        assertEquals(attendMap.getOverallAttendance(), person.getOverallAttendance());
+        assertEquals(attendMap.getAttendanceRate(), person.getAttendanceRate());
+        assertEquals(attendMap.formatAttendance(), person.getFormattedAttendance());
+
+        // later calls return the values computed by the first
+        assertSame(person.getFormattedGrades(), person.getFormattedGrades());
+        assertSame(person.getFormattedAttendance(), person.getFormattedAttendance());
+    }
 }
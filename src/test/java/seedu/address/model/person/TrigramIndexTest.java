@@ -0,0 +1,45 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void findCandidates_shortKeyword_returnsNull() {
+        index.add(ALICE);
+        assertNull(index.findCandidates(TrigramIndex.Field.NAME, "al"));
+    }
+
+    @Test
+    public void findCandidates_keywordInField_returnsPerson() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        assertEquals(List.of(ALICE), index.findCandidates(TrigramIndex.Field.NAME, "pAUl"));
+        assertEquals(List.of(BENSON), index.findCandidates(TrigramIndex.Field.EMAIL, "johnd@"));
+        assertEquals(List.of(ALICE), index.findCandidates(TrigramIndex.Field.TELE_HANDLE, "@alice"));
+
+        // trigram of another field -> not found
+        assertEquals(List.of(), index.findCandidates(TrigramIndex.Field.NAME, "johnd"));
+        assertEquals(List.of(), index.findCandidates(TrigramIndex.Field.NAME, "xyz"));
+    }
+
+    @Test
+    public void findCandidates_removedPerson_notReturned() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+
+        assertEquals(List.of(), index.findCandidates(TrigramIndex.Field.NAME, "alice"));
+        assertEquals(List.of(BENSON), index.findCandidates(TrigramIndex.Field.NAME, "meier"));
+    }
+}
@@ -8,13 +8,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TELEHANDLE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +52,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +114,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +147,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_canBeAddedAgain() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +183,71 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_nullMap_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((Map<Person, Person>) null));
+    }
+
+    @Test
+    public void setPersons_map_replacesPersonsInOneChange() {
+        List<Person> persons = getTypicalPersons();
+        uniquePersonList.setPersons(persons);
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        Map<Person, Person> edits = new LinkedHashMap<>();
+        for (int i = persons.size() - 1; i >= 0; i -= 2) {
+            edits.put(persons.get(i), new PersonBuilder(persons.get(i)).withTags(VALID_TAG_TUTORIAL1).build());
+        }
+        uniquePersonList.setPersons(edits);
+
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        expectedPersons.replaceAll(person -> edits.getOrDefault(person, person));
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+
+        // edited persons are found again
+        uniquePersonList.remove(edits.get(persons.get(0)));
+        assertFalse(uniquePersonList.contains(persons.get(0)));
+    }
+
+    @Test
+    public void setPersons_mapSwappingIdentities_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+
+        uniquePersonList.setPersons(Map.of(ALICE, aliceWithBobEmail, BOB, bobWithAliceEmail));
+        assertEquals(Arrays.asList(aliceWithBobEmail, bobWithAliceEmail),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_mapWithInvalidEdit_leavesListUnchanged() {
+        List<Person> persons = getTypicalPersons();
+        uniquePersonList.setPersons(persons);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_TUTORIAL1).build();
+
+        Map<Person, Person> missingTarget = new LinkedHashMap<>();
+        missingTarget.put(ALICE, editedAlice);
+        missingTarget.put(BOB, BOB);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(missingTarget));
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+
+        Map<Person, Person> duplicateIdentity = new LinkedHashMap<>();
+        duplicateIdentity.put(ALICE, editedAlice);
+        String carlEmail = persons.get(2).getEmail().value;
+        duplicateIdentity.put(persons.get(1), new PersonBuilder(persons.get(1)).withEmail(carlEmail).build());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(duplicateIdentity));
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
@@ -162,6 +256,46 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameEmailDifferentCase_throwsDuplicatePersonException() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, upperCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterEarlierRemovals_findsPersonsById() {
+        List<Person> persons = getTypicalPersons();
+        uniquePersonList.setPersons(persons);
+        uniquePersonList.remove(persons.get(1));
+        uniquePersonList.remove(persons.get(3));
+        uniquePersonList.add(BOB);
+
+        Person editedLast = new PersonBuilder(persons.get(6)).withPhone("91234567").build();
+        uniquePersonList.setPerson(persons.get(6), editedLast);
+        uniquePersonList.remove(persons.get(0));
+        uniquePersonList.remove(BOB);
+
+        assertEquals(Arrays.asList(persons.get(2), persons.get(4), persons.get(5), editedLast),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersonAndRemove_personsSharingId_findsEqualPerson() {
+        Person aliceCopy = new PersonBuilder(BOB).withId(ALICE.getId()).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceCopy);
+
+        Person editedCopy = new PersonBuilder(aliceCopy).withPhone("91234567").build();
+        uniquePersonList.setPerson(aliceCopy, editedCopy);
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(editedCopy), uniquePersonList.asUnmodifiableObservableList());
+
+        // an equal person with another id is still found
+        uniquePersonList.remove(new PersonBuilder(editedCopy).withId(editedCopy.getId() + 1).build());
+        assertEquals(Collections.emptyList(), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
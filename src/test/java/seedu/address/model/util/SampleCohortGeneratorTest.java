@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class SampleCohortGeneratorTest {
+
+    @Test
+    public void generateAddressBook_negativeSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleCohortGenerator(1).generateAddressBook(-1));
+    }
+
+    @Test
+    public void generateAddressBook_emptyCohort_success() {
+        assertEquals(new AddressBook(), new AddressBook(new SampleCohortGenerator(1).generateAddressBook(0)));
+    }
+
+    @Test
+    public void generateAddressBook_sameSeed_sameCohort() {
+        ReadOnlyAddressBook cohort = new SampleCohortGenerator(42).generateAddressBook(500);
+        assertEquals(new AddressBook(cohort), new AddressBook(new SampleCohortGenerator(42).generateAddressBook(500)));
+        assertNotEquals(new AddressBook(cohort),
+                new AddressBook(new SampleCohortGenerator(43).generateAddressBook(500)));
+    }
+
+    @Test
+    public void generateAddressBook_largeCohort_uniqueStudentsInRealisticGroups() {
+        int cohortSize = 2000;
+        ReadOnlyAddressBook cohort = new SampleCohortGenerator(SampleCohortGenerator.DEFAULT_SEED)
+                .generateAddressBook(cohortSize);
+        assertEquals(cohortSize, cohort.getPersonList().size());
+
+        Set<String> teleHandles = new HashSet<>();
+        Set<String> tutorialGroups = new HashSet<>();
+        for (Person person : cohort.getPersonList()) {
+            assertTrue(teleHandles.add(person.getTeleHandle().value));
+            tutorialGroups.add(person.getTutorialGroup().value);
+        }
+        assertEquals(SampleCohortGenerator.MAX_TUTORIAL_GROUPS, tutorialGroups.size());
+    }
+}
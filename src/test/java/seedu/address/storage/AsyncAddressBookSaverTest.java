@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    @Test
+    public void requestSave_null_throwsNullPointerException() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new RecordingAddressBookStorage());
+        assertThrows(NullPointerException.class, () -> saver.requestSave(null));
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_laterChanges_notSaved() {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        saver.shutdown();
+
+        assertEquals(List.of(expected), storage.saved);
+    }
+
+    @Test
+    public void requestSave_whileWriting_coalescedIntoLatest() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+        storage.firstSaveStarted = new CountDownLatch(1);
+        storage.firstSaveRelease = new CountDownLatch(1);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        assertTrue(storage.firstSaveStarted.await(5, TimeUnit.SECONDS));
+        AddressBook first = new AddressBook(addressBook);
+
+        // requests made while the first save is still being written are merged into one
+        addressBook.addPerson(HOON);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(IDA);
+        saver.requestSave(addressBook);
+        storage.firstSaveRelease.countDown();
+        saver.shutdown();
+
+        assertEquals(List.of(first, addressBook), storage.saved);
+    }
+
+    @Test
+    public void requestSave_storageFails_failureHandlerNotified() {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage();
+        storage.failure = new IOException("disk full");
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(getTypicalAddressBook());
+        saver.flush();
+
+        assertEquals(List.of(storage.failure), failures);
+        saver.shutdown();
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records a copy of every address book it is asked to save.
+     */
+    private static class RecordingAddressBookStorage implements AddressBookStorage {
+        private final List<AddressBook> saved = new ArrayList<>();
+        private IOException failure;
+        private CountDownLatch firstSaveStarted;
+        private CountDownLatch firstSaveRelease;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(new AddressBook(addressBook));
+            if (saved.size() == 1 && firstSaveStarted != null) {
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveRelease.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
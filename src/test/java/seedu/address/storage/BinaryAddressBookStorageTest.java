@@ -0,0 +1,234 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Assignments;
+import seedu.address.model.person.AttendMap;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.TutorialClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("x.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        GradeMap gradeMap = new GradeMap()
+                .with(Assignments.Q1, new Grade("100.00"))
+                .with(Assignments.Finals, new Grade("7.05"));
+        AttendMap attendMap = new AttendMap()
+                .withPresent(TutorialClass.t1)
+                .withPresent(TutorialClass.t11);
+        original.addPerson(new PersonBuilder(HOON).withGradeMap(gradeMap).withAttendMap(attendMap).build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(HOON.getId(), readBack.getPersonList().get(readBack.getPersonList().size() - 1).getId());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook")));
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook.bin")));
+        assertEquals(testFolder.resolve("addressbook.txt.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook.txt")));
+    }
+
+    @Test
+    public void saveAddressBook_jsonDataFile_savedToBinaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(binaryFilePath, storage.getAddressBookFilePath());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(binaryFilePath));
+        assertFalse(Files.exists(filePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // saving converts the data to the binary format, and removes the json file it replaces
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(storage.getAddressBookFilePath()));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void jsonStorage_binaryFile_exported() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the next change converts the data to the json format, and removes the binary file it replaces
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(binaryFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void jsonStorage_binaryFileUnderJsonName_exported() throws Exception {
+        // binary files used to be saved under the name of the data file
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(testFolder.resolve("Legacy.bin")).saveAddressBook(getTypicalAddressBook());
+        Files.copy(testFolder.resolve("Legacy.bin"), filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_bothFormats_readsLastSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook binaryAddressBook = getTypicalAddressBook();
+        binaryAddressBook.addPerson(HOON);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(binaryAddressBook);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // as left by a save that was interrupted before removing the file in the other format
+        FileTime earlier = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+        Files.setLastModifiedTime(filePath, earlier);
+        assertEquals(binaryAddressBook,
+                new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(binaryAddressBook,
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        Files.setLastModifiedTime(binaryFilePath, FileTime.fromMillis(earlier.toMillis() - 60_000));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void switchFormats_journaledChanges_kept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        // switching to binary reads the journaled changes, then discards the json file and journal once they are saved
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(binaryStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        readBack.removePerson(ALICE);
+        binaryStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertFalse(Files.exists(filePath));
+
+        // switching back to json
+        journalStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBackAgain = new AddressBook(journalStorage.readAddressBook().get());
+        assertEquals(readBack, readBackAgain);
+        readBackAgain.addPerson(ALICE);
+        journalStorage.saveAddressBook(readBackAgain);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(binaryFilePath));
+        assertEquals(readBackAgain, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        content[Integer.BYTES + 1]++;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) * 4 < FileUtil.readFromFile(jsonFilePath).length());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+}
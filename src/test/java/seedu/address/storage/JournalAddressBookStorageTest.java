@@ -0,0 +1,224 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("x.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a full snapshot
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Add, edit and delete are journaled without touching the snapshot
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99998888").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // the journal holds its header and one record per change
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        reorderByPhone(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        original.addPerson(HOON);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"op\":\"ADD\",\"ind");
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastRecord_keepsJournaledChanges() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        FileUtil.appendToFile(journalFilePath, "{\"op\":\"ADD\",\"ind");
+
+        // the next save must not append to the cut-short line
+        storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        readBack.removePerson(ALICE);
+        storage.saveAddressBook(readBack);
+
+        original.addPerson(IDA);
+        original.removePerson(ALICE);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_journalLeftByInterruptedCompaction_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        String journal = FileUtil.readFromFile(journalFilePath);
+
+        // the compaction writes the snapshot, but the journal is not deleted before the app stops
+        reorderByPhone(original);
+        storage.saveAddressBook(original);
+        FileUtil.writeToFile(journalFilePath, journal);
+
+        storage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the stale journal is replaced rather than appended to
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_recordOutOfRange_recoversSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        FileUtil.appendToFile(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"DELETE\",\"index\":100}\n");
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // the next save replaces the unusable journal with a fresh snapshot
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void read_corruptedSnapshotWithoutBackups_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\": [ { \"name");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    // Reorders the persons without changing any of them
+    private static void reorderByPhone(AddressBook addressBook) {
+        List<Person> reordered = new ArrayList<>(addressBook.getPersonList());
+        reordered.sort(Comparator.comparing(person -> person.getPhone().value));
+        addressBook.setPersons(reordered);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -18,6 +19,7 @@ import seedu.address.model.person.AttendMap;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.GradeMap;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.TeleHandle;
 import seedu.address.model.person.TutorialGroup;
@@ -58,6 +60,23 @@ public class JsonAdaptedPersonTest {
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
         JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
         assertEquals(BENSON, person.toModelType());
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_returnsPersonWithNewId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEHANDLE,
+                VALID_TUTORIAL_GROUP, VALID_GRADE_MAP, VALID_ATTEND_MAP, VALID_TAGS);
+        Person modelPerson = person.toModelType();
+        assertEquals(BENSON, modelPerson);
+        assertNotEquals(BENSON.getId(), modelPerson.getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(-1L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_TELEHANDLE,
+                VALID_TUTORIAL_GROUP, VALID_GRADE_MAP, VALID_ATTEND_MAP, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Person.MESSAGE_ID_CONSTRAINTS, person::toModelType);
     }
 
     @Test
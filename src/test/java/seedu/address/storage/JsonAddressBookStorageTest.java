@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +87,30 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptedFile_recoversNewestBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook newestBackup = new AddressBook(original);
+        newestBackup.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(newestBackup);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        FileUtil.writeToFile(filePath, "{ \"persons\": [ { \"name");
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(newestBackup, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithoutBackups_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\": [ { \"name");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
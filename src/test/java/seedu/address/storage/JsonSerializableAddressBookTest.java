@@ -7,8 +7,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.testutil.TypicalPersons;
@@ -20,6 +22,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +49,32 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readStreaming_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = new AddressBook(
+                JsonSerializableAddressBook.readStreaming(TYPICAL_PERSONS_FILE).get());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readStreaming_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readStreaming(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readStreaming_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonSerializableAddressBook.readStreaming(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void saveStreaming_typicalPersons_sameAsNonStreaming() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        Path filePath = testFolder.resolve("streamed.json");
+        JsonSerializableAddressBook.saveStreaming(typicalPersonsAddressBook, filePath, 0);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalPersonsAddressBook)),
+                FileUtil.readFromFile(filePath));
+    }
+
 }
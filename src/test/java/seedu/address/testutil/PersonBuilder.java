@@ -1,13 +1,10 @@
 package seedu.address.testutil;
 
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Set;
 
-import seedu.address.model.person.Assignments;
 import seedu.address.model.person.AttendMap;
 import seedu.address.model.person.Email;
-import seedu.address.model.person.Grade;
 import seedu.address.model.person.GradeMap;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -28,6 +25,7 @@ public class PersonBuilder {
     public static final String DEFAULT_TELEHANDLE = "@amy";
     public static final String DEFAULT_TUTORIAL_GROUP = "TG01";
 
+    private Long id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -55,6 +53,7 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
@@ -116,8 +115,8 @@ public class PersonBuilder {
     /**
      * Sets the {@code GradeMap} of the {@code Person} that we are building.
      */
-    public PersonBuilder withGradeMap(LinkedHashMap<Assignments, Grade> gradeMap) {
-        this.gradeMap = new GradeMap(gradeMap);
+    public PersonBuilder withGradeMap(GradeMap gradeMap) {
+        this.gradeMap = gradeMap;
         return this;
     }
 
@@ -138,14 +137,28 @@ public class PersonBuilder {
     }
 
     /**
-     * Sets the clone {@code AttendMap} of the {@code Person} that we are building.
+     * Sets the {@code AttendMap} of the {@code Person} that we are building.
      */
     public PersonBuilder withAttendMap(AttendMap newAttendMap) {
-        this.attendMap = new AttendMap(newAttendMap);
+        this.attendMap = newAttendMap;
+        return this;
+    }
+
+    /**
+     * Sets the id of the {@code Person} that we are building.
+     */
+    public PersonBuilder withId(long id) {
+        this.id = id;
         return this;
     }
 
+    /**
+     * Builds the {@code Person}, which keeps the id of the person copied, if any, or is given a new id otherwise.
+     */
     public Person build() {
-        return new Person(name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+        if (id == null) {
+            return new Person(name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
+        }
+        return new Person(id, name, phone, email, teleHandle, tutorialGroup, gradeMap, attendMap, tags);
     }
 }